@@ -20,7 +20,6 @@ package org.apache.maven.report.projectinfo;
  */
 
 import java.util.Locale;
-import java.util.regex.Pattern;
 
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.reporting.AbstractMavenReportRenderer;
@@ -93,8 +92,7 @@ public abstract class AbstractProjectInfoRenderer
         else
         {
             // custombundle text with xml?
-            String regex = "(.+?)<(\"[^\"]*\"|'[^']*'|[^'\">])*>(.+?)";
-            if ( Pattern.matches( regex, text ) )
+            if ( isMarkup( text ) )
             {
                 sink.rawText( text );
             }
@@ -106,4 +104,88 @@ public abstract class AbstractProjectInfoRenderer
     }
 
     protected abstract String getI18Nsection();
+
+    /**
+     * Checks in linear time if a text matches <code>(.+?)&lt;("[^"]*"|'[^']*'|[^'"&gt;])*&gt;(.+?)</code>, i.e. if it
+     * contains an element between some text.
+     *
+     * @param text not null
+     * @return <code>true</code> if the text should be rendered as markup
+     */
+    static boolean isMarkup( String text )
+    {
+        int length = text.length();
+
+        // the text before the '<' and after the '>' can not contain line terminators
+        int firstLineTerminator = length;
+        int lastLineTerminator = -1;
+        boolean hasTagStart = false;
+        for ( int i = 0; i < length; i++ )
+        {
+            char c = text.charAt( i );
+            if ( isLineTerminator( c ) )
+            {
+                firstLineTerminator = Math.min( firstLineTerminator, i );
+                lastLineTerminator = i;
+            }
+            else if ( c == '<' && i > 0 && i < firstLineTerminator )
+            {
+                hasTagStart = true;
+            }
+        }
+        if ( !hasTagStart )
+        {
+            return false;
+        }
+
+        // tagEnd[i]: the first '>' outside of quotes from i, or -1 if a quote is not closed before
+        int[] tagEnd = new int[length + 1];
+        tagEnd[length] = -1;
+        int nextDoubleQuote = -1;
+        int nextSingleQuote = -1;
+        for ( int i = length - 1; i >= 0; i-- )
+        {
+            char c = text.charAt( i );
+            if ( c == '>' )
+            {
+                tagEnd[i] = i;
+            }
+            else if ( c == '"' )
+            {
+                tagEnd[i] = ( nextDoubleQuote < 0 ) ? -1 : tagEnd[nextDoubleQuote + 1];
+                nextDoubleQuote = i;
+            }
+            else if ( c == '\'' )
+            {
+                tagEnd[i] = ( nextSingleQuote < 0 ) ? -1 : tagEnd[nextSingleQuote + 1];
+                nextSingleQuote = i;
+            }
+            else
+            {
+                tagEnd[i] = tagEnd[i + 1];
+            }
+        }
+
+        for ( int i = 1; i < firstLineTerminator; i++ )
+        {
+            if ( text.charAt( i ) == '<' )
+            {
+                int end = tagEnd[i + 1];
+                if ( end > lastLineTerminator && end + 1 < length )
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param c a character
+     * @return <code>true</code> if the character is not matched by the <code>.</code> of a regular expression
+     */
+    private static boolean isLineTerminator( char c )
+    {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
 }
@@ -195,6 +195,11 @@ public abstract class AbstractProjectInfoReport
     @Parameter( defaultValue = "true" )
     protected boolean skipEmptyReport;
 
+    /**
+     * The I18N instances using the custom bundle, by locale.
+     */
+    private final Map<Locale, I18N> customI18Ns = new HashMap<Locale, I18N>();
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -228,11 +233,15 @@ public abstract class AbstractProjectInfoReport
             attributes.put( "project", project );
 
             Locale locale = Locale.getDefault();
+            SiteRenderingCache cache = SiteRenderingCache.getInstance( getSessionKey() );
+
+            @SuppressWarnings( "unchecked" )
             Artifact defaultSkin =
-                siteTool.getDefaultSkinArtifact( localRepository, project.getRemoteArtifactRepositories() );
+                cache.getDefaultSkinArtifact( siteTool, localRepository, project.getRemoteArtifactRepositories() );
 
-            SiteRenderingContext siteContext = siteRenderer.createContextForSkin( defaultSkin.getFile(), attributes,
-                                                                                  model, getName( locale ), locale );
+            SiteRenderingContext siteContext = cache.createContextForSkin( siteRenderer, defaultSkin.getFile(),
+                                                                           attributes, model, getName( locale ),
+                                                                           locale );
 
             RenderingContext context = new RenderingContext( outputDirectory, filename );
 
@@ -246,8 +255,8 @@ public abstract class AbstractProjectInfoReport
 
             siteRenderer.generateDocument( writer, sink, siteContext );
 
-            siteRenderer.copyResources( siteContext, new File( project.getBasedir(), "src/site/resources" ),
-                                        outputDirectory );
+            cache.copyResources( siteRenderer, siteContext, new File( project.getBasedir(), "src/site/resources" ),
+                                 outputDirectory );
 
             writer.close();
             writer = null;
@@ -331,6 +340,30 @@ public abstract class AbstractProjectInfoReport
         return reactorProjects;
     }
 
+    /**
+     * @return the object identifying the current build session, i.e. the reactor projects list if available, or
+     * the current project so that the reports of one module still share their values.
+     * @since 2.10
+     * @see SessionScope
+     */
+    protected Object getSessionKey()
+    {
+        if ( reactorProjects != null )
+        {
+            return reactorProjects;
+        }
+        return ( project != null ) ? project : this;
+    }
+
+    /**
+     * @return the <code>MavenProject</code> cache shared by all the reports of the current build session.
+     * @since 2.10
+     */
+    protected MavenProjectCache getMavenProjectCache()
+    {
+        return MavenProjectCache.getInstance( getSessionKey() );
+    }
+
     /**
      * @param pluginId The id of the plugin
      * @return The information about the plugin.
@@ -395,7 +428,7 @@ public abstract class AbstractProjectInfoReport
 
     /**
      * @param locale The local.
-     * @return I18N for the locale
+     * @return I18N for the locale, the instances using the custom bundle being kept by locale
      */
     protected I18N getI18N( Locale locale )
     {
@@ -404,14 +437,15 @@ public abstract class AbstractProjectInfoReport
             File customBundleFile = new File( customBundle );
             if ( customBundleFile.isFile() && customBundleFile.getName().endsWith( ".properties" ) )
             {
-                if ( !i18n.getClass().isAssignableFrom( CustomI18N.class ) )
+                synchronized ( customI18Ns )
                 {
-                    // first load
-                    i18n = new CustomI18N( project, settings, customBundleFile, locale, i18n );
-                }
-                else if ( !i18n.getDefaultLanguage().equals( locale.getLanguage() ) )
-                {
-                    i18n = new CustomI18N( project, settings, customBundleFile, locale, i18n );
+                    I18N customI18N = customI18Ns.get( locale );
+                    if ( customI18N == null )
+                    {
+                        customI18N = new CustomI18N( project, settings, customBundleFile, locale, i18n );
+                        customI18Ns.put( locale, customI18N );
+                    }
+                    return customI18N;
                 }
             }
         }
@@ -436,6 +470,10 @@ public abstract class AbstractProjectInfoReport
         return getI18nString( locale, "description" );
     }
 
+    /**
+     * I18N using a custom bundle, falling back to the plugin bundle. The <code>${...}</code> expressions of a value
+     * are interpolated once per report run: the interpolated values are kept by locale and key.
+     */
     private static class CustomI18N
         implements I18N
     {
@@ -451,6 +489,12 @@ public abstract class AbstractProjectInfoReport
 
         private ResourceBundle bundle;
 
+        /** Created on first use, guarded by {@link #interpolatedValues} */
+        private RegexBasedInterpolator interpolator;
+
+        /** The interpolated values, by bundle name, locale and key */
+        private final Map<String, String> interpolatedValues = new HashMap<String, String>();
+
         private static final Object[] NO_ARGS = new Object[0];
 
         public CustomI18N( MavenProject project, Settings settings, File customBundleFile, Locale locale,
@@ -571,29 +615,16 @@ public abstract class AbstractProjectInfoReport
                 return value;
             }
 
-            final RegexBasedInterpolator interpolator = new RegexBasedInterpolator();
-            try
-            {
-                interpolator.addValueSource( new EnvarBasedValueSource() );
-            }
-            catch ( final IOException e )
-            {
-                // In which cases could this happen? And what should we do?
-            }
-
-            interpolator.addValueSource( new PropertiesBasedValueSource( System.getProperties() ) );
-            interpolator.addValueSource( new PropertiesBasedValueSource( project.getProperties() ) );
-            interpolator.addValueSource( new PrefixedObjectValueSource( "project", project ) );
-            interpolator.addValueSource( new PrefixedObjectValueSource( "pom", project ) );
-            interpolator.addValueSource( new PrefixedObjectValueSource( "settings", settings ) );
-
-            try
-            {
-                value = interpolator.interpolate( value );
-            }
-            catch ( final InterpolationException e )
+            String cacheKey = bundleName + ':' + locale + ':' + key;
+            synchronized ( interpolatedValues )
             {
-                // What does this exception mean?
+                String interpolated = interpolatedValues.get( cacheKey );
+                if ( interpolated == null )
+                {
+                    interpolated = interpolate( value );
+                    interpolatedValues.put( cacheKey, interpolated );
+                }
+                value = interpolated;
             }
 
             return value;
@@ -644,6 +675,42 @@ public abstract class AbstractProjectInfoReport
             return messageFormat.format( args );
         }
 
+        /**
+         * @param value the value containing expressions, not null
+         * @return the interpolated value, or the given value if the interpolation failed
+         */
+        private String interpolate( String value )
+        {
+            if ( interpolator == null )
+            {
+                interpolator = new RegexBasedInterpolator();
+                try
+                {
+                    interpolator.addValueSource( new EnvarBasedValueSource() );
+                }
+                catch ( final IOException e )
+                {
+                    // In which cases could this happen? And what should we do?
+                }
+
+                interpolator.addValueSource( new PropertiesBasedValueSource( System.getProperties() ) );
+                interpolator.addValueSource( new PropertiesBasedValueSource( project.getProperties() ) );
+                interpolator.addValueSource( new PrefixedObjectValueSource( "project", project ) );
+                interpolator.addValueSource( new PrefixedObjectValueSource( "pom", project ) );
+                interpolator.addValueSource( new PrefixedObjectValueSource( "settings", settings ) );
+            }
+
+            try
+            {
+                return interpolator.interpolate( value );
+            }
+            catch ( final InterpolationException e )
+            {
+                // What does this exception mean?
+                return value;
+            }
+        }
+
         private String getStringOrNull( ResourceBundle rb, String key )
         {
             if ( rb != null )
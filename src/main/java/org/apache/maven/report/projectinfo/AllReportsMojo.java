@@ -0,0 +1,691 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.artifact.factory.ArtifactFactory;
+import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.metadata.RepositoryMetadataManager;
+import org.apache.maven.artifact.resolver.ArtifactCollector;
+import org.apache.maven.artifact.resolver.ArtifactResolver;
+import org.apache.maven.doxia.siterenderer.Renderer;
+import org.apache.maven.doxia.tools.SiteTool;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectBuilder;
+import org.apache.maven.scm.manager.ScmManager;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.tree.DependencyTreeBuilder;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.codehaus.plexus.component.repository.ComponentRequirement;
+import org.codehaus.plexus.i18n.I18N;
+
+/**
+ * Generates all the project info reports in one execution, so that the work shared by several reports, like
+ * building the dependency POMs or resolving the skin, is done once. See {@link MavenProjectCache} and
+ * {@link SiteRenderingCache}.
+ * <p>
+ * Each report is configured with the parameters and components of this mojo that have the same name as the ones
+ * declared in the plugin descriptor for its own goal, the generation fails if one of them is missing here: a
+ * parameter added to a report should also be added here, with the same expression and default value.
+ * </p>
+ * <p>
+ * Before the generation, the remote license files are fetched while the dependency tree of the project is resolved,
+ * both once for all the reports. The reports are then generated one after another, since some components they share,
+ * like the site renderer or the project builder, are not thread safe. The reports can still use several threads for
+ * their own work, see for instance <code>dependency.details.threads</code>.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+@Mojo( name = "all", requiresDependencyResolution = ResolutionScope.TEST )
+public class AllReportsMojo
+    extends AbstractMojo
+{
+    /** The reports by goal name, in the rendering order */
+    private static final Map<String, Class<? extends AbstractProjectInfoReport>> REPORTS;
+
+    static
+    {
+        Map<String, Class<? extends AbstractProjectInfoReport>> reports =
+            new LinkedHashMap<String, Class<? extends AbstractProjectInfoReport>>();
+        reports.put( "index", IndexReport.class );
+        reports.put( "summary", SummaryReport.class );
+        reports.put( "dependencies", DependenciesReport.class );
+        reports.put( "dependency-convergence", DependencyConvergenceReport.class );
+        reports.put( "dependency-info", DependencyInformationReport.class );
+        reports.put( "dependency-management", DependencyManagementReport.class );
+        reports.put( "distribution-management", DistributionManagementReport.class );
+        reports.put( "cim", CiManagementReport.class );
+        reports.put( "issue-tracking", IssueManagementReport.class );
+        reports.put( "license", LicensesReport.class );
+        reports.put( "mailing-list", MailingListsReport.class );
+        reports.put( "modules", ModulesReport.class );
+        reports.put( "plugin-management", PluginManagementReport.class );
+        reports.put( "plugins", PluginsReport.class );
+        reports.put( "scm", ScmReport.class );
+        reports.put( "project-team", TeamReport.class );
+        REPORTS = Collections.unmodifiableMap( reports );
+    }
+
+    // ----------------------------------------------------------------------
+    // Mojo parameters of this goal
+    // ----------------------------------------------------------------------
+
+    /**
+     * The goals of the reports to generate, all by default.
+     */
+    @Parameter( property = "mpir.reports" )
+    private List<String> reportGoals;
+
+    /**
+     * The descriptor of this plugin, giving the parameters and components of each report.
+     */
+    @Parameter( defaultValue = "${plugin}", readonly = true, required = true )
+    private PluginDescriptor plugin;
+
+    // ----------------------------------------------------------------------
+    // Components of the reports
+    // ----------------------------------------------------------------------
+
+    /**
+     * SiteTool component.
+     */
+    @Component
+    private SiteTool siteTool;
+
+    /**
+     * Doxia Site Renderer component.
+     */
+    @Component
+    private Renderer siteRenderer;
+
+    /**
+     * Artifact Resolver component.
+     */
+    @Component
+    private ArtifactResolver resolver;
+
+    /**
+     * Artifact Factory component.
+     */
+    @Component
+    private ArtifactFactory factory;
+
+    /**
+     * Internationalization component, could support also custom bundle using {@link #customBundle}.
+     */
+    @Component
+    private I18N i18n;
+
+    /**
+     * Maven Project Builder component.
+     */
+    @Component
+    private MavenProjectBuilder mavenProjectBuilder;
+
+    /**
+     * Artifact metadata source component, for the <code>dependencies</code> and
+     * <code>dependency-management</code> reports.
+     */
+    @Component
+    private ArtifactMetadataSource artifactMetadataSource;
+
+    /**
+     * Artifact metadata source component, for the <code>dependency-convergence</code> report.
+     */
+    @Component
+    private ArtifactMetadataSource metadataSource;
+
+    /**
+     * Dependency graph builder component, for the <code>dependencies</code> report.
+     */
+    @Component( hint = "default" )
+    private DependencyGraphBuilder dependencyGraphBuilder;
+
+    /**
+     * Dependency tree builder component, for the <code>dependency-convergence</code> report.
+     */
+    @Component
+    private DependencyTreeBuilder dependencyTreeBuilder;
+
+    /**
+     * Artifact collector component, for the <code>dependency-convergence</code> report.
+     */
+    @Component
+    private ArtifactCollector collector;
+
+    /**
+     * Jar classes analyzer component, for the <code>dependencies</code> report.
+     */
+    @Component
+    private JarClassesAnalysis classesAnalyzer;
+
+    /**
+     * Repository metadata component, for the <code>dependencies</code> and
+     * <code>dependency-management</code> reports.
+     */
+    @Component
+    private RepositoryMetadataManager repositoryMetadataManager;
+
+    /**
+     * Maven Artifact Factory component, for the dependencies and plugins reports.
+     */
+    @Component
+    private ArtifactFactory artifactFactory;
+
+    /**
+     * Maven SCM Manager, for the <code>scm</code> report.
+     */
+    @Component
+    private ScmManager scmManager;
+
+    // ----------------------------------------------------------------------
+    // Parameters of the reports
+    // ----------------------------------------------------------------------
+
+    /**
+     * The output directory of the reports.
+     */
+    @Parameter( property = "project.reporting.outputDirectory", required = true )
+    private File outputDirectory;
+
+    /**
+     * The Maven Project.
+     */
+    @Parameter( defaultValue = "${project}", readonly = true, required = true )
+    private MavenProject project;
+
+    /**
+     * Local Repository.
+     */
+    @Parameter( property = "localRepository", required = true, readonly = true )
+    private ArtifactRepository localRepository;
+
+    /**
+     * Remote repositories used for the project.
+     */
+    @Parameter( property = "project.remoteArtifactRepositories" )
+    private List<ArtifactRepository> remoteRepositories;
+
+    /**
+     * The reactor projects.
+     */
+    @Parameter( defaultValue = "${reactorProjects}", required = true, readonly = true )
+    private List<MavenProject> reactorProjects;
+
+    /**
+     * The current user system settings for use in Maven.
+     */
+    @Parameter( defaultValue = "${settings}", readonly = true, required = true )
+    private Settings settings;
+
+    /**
+     * Path for a custom bundle instead of using the default one, to change the texts of the reports.
+     */
+    @Parameter( defaultValue = "${project.basedir}/src/site/custom/project-info-reports.properties" )
+    private String customBundle;
+
+    /**
+     * Skip the reports.
+     */
+    @Parameter( property = "mpir.skip", defaultValue = "false" )
+    private boolean skip;
+
+    /**
+     * Skip the generation of a report if its section of the POM is empty.
+     */
+    @Parameter( defaultValue = "true" )
+    private boolean skipEmptyReport;
+
+    /**
+     * Specifies the input encoding.
+     */
+    @Parameter( property = "encoding", defaultValue = "${project.build.sourceEncoding}", readonly = true )
+    private String inputEncoding;
+
+    /**
+     * Specifies the output encoding.
+     */
+    @Parameter( property = "outputEncoding", defaultValue = "${project.reporting.outputEncoding}", readonly = true )
+    private String outputEncoding;
+
+    /**
+     * Display file details for each dependency. See the <code>dependencies</code> report.
+     */
+    @Parameter( property = "dependency.details.enabled", defaultValue = "true" )
+    private boolean dependencyDetailsEnabled;
+
+    /**
+     * Number of threads used to analyze the dependency files. See the <code>dependencies</code> report.
+     */
+    @Parameter( property = "dependency.details.threads", defaultValue = "1" )
+    private int dependencyDetailsThreads;
+
+    /**
+     * File storing the details of the dependency files between builds. See the <code>dependencies</code>
+     * report.
+     */
+    @Parameter( property = "dependency.details.cacheFile", defaultValue = "${settings.localRepository}/.cache/"
+        + "maven-project-info-reports-plugin/jar-details.properties" )
+    private File dependencyDetailsCacheFile;
+
+    /**
+     * Also compare the SHA-1 checksum of the dependency files before using their cached details. See the
+     * <code>dependencies</code> report.
+     */
+    @Parameter( property = "dependency.details.cacheChecksum", defaultValue = "false" )
+    private boolean dependencyDetailsCacheChecksum;
+
+    /**
+     * Compute the details of the dependency files from the jar central directory and the class headers. See
+     * the <code>dependencies</code> report.
+     */
+    @Parameter( property = "dependency.details.fastScan", defaultValue = "false" )
+    private boolean dependencyDetailsFastScan;
+
+    /**
+     * Number of threads used to build the POMs of all the dependencies. See the <code>dependencies</code>
+     * report.
+     */
+    @Parameter( property = "dependencies.prefetchThreads", defaultValue = "1" )
+    private int prefetchThreads;
+
+    /**
+     * Load the details of the nodes of the dependency tree on demand. See the <code>dependencies</code>
+     * report.
+     */
+    @Parameter( property = "dependency.tree.lazyDetails", defaultValue = "false" )
+    private boolean dependencyTreeLazyDetails;
+
+    /**
+     * Render once each distinct subtree of the dependency tree. See the <code>dependencies</code> report.
+     */
+    @Parameter( property = "dependency.tree.deduplicate", defaultValue = "false" )
+    private boolean dependencyTreeDeduplicate;
+
+    /**
+     * Number of threads used to build the dependency trees of the reactor projects. See the
+     * <code>dependency-convergence</code> report.
+     */
+    @Parameter( property = "dependency.convergence.threads", defaultValue = "1" )
+    private int dependencyTreeThreads;
+
+    /**
+     * The group id of the project. See the <code>dependency-info</code> report.
+     */
+    @Parameter( defaultValue = "${project.groupId}", required = true )
+    private String groupId;
+
+    /**
+     * The artifact id of the project. See the <code>dependency-info</code> report.
+     */
+    @Parameter( defaultValue = "${project.artifactId}", required = true )
+    private String artifactId;
+
+    /**
+     * The version of the project. See the <code>dependency-info</code> report.
+     */
+    @Parameter( defaultValue = "${project.version}", required = true )
+    private String version;
+
+    /**
+     * The packaging of the project. See the <code>dependency-info</code> report.
+     */
+    @Parameter( defaultValue = "${project.packaging}", required = true )
+    private String packaging;
+
+    /**
+     * Whether the system is currently offline.
+     */
+    @Parameter( property = "settings.offline" )
+    private boolean offline;
+
+    /**
+     * Only render links to the license documents instead of inlining them. See the <code>license</code> report.
+     */
+    @Parameter( defaultValue = "false" )
+    private boolean linkOnly;
+
+    /**
+     * Specifies the input encoding of the project's license file(s). See the <code>license</code> report.
+     */
+    @Parameter
+    private String licenseFileEncoding;
+
+    /**
+     * Directory storing the content of the remote license files between builds. See the
+     * <code>license</code> report.
+     */
+    @Parameter( property = "license.cacheDirectory", defaultValue = "${settings.localRepository}/.cache/"
+        + "maven-project-info-reports-plugin/licenses" )
+    private File licenseCacheDirectory;
+
+    /**
+     * Time in minutes during which a cached license file is used without checking if it changed. See the
+     * <code>license</code> report.
+     */
+    @Parameter( property = "license.cacheTimeToLive", defaultValue = "1440" )
+    private int licenseCacheTimeToLive;
+
+    /**
+     * Number of threads used to fetch the remote license files. See the <code>license</code> report.
+     */
+    @Parameter( property = "license.fetchThreads", defaultValue = "1" )
+    private int licenseFetchThreads;
+
+    /**
+     * Connect and read timeout in seconds when fetching a remote license file. See the <code>license</code>
+     * report.
+     */
+    @Parameter( property = "license.fetchTimeout", defaultValue = "5" )
+    private int licenseFetchTimeout;
+
+    /**
+     * Time in seconds given to fetch all the remote license files. See the <code>license</code> report.
+     */
+    @Parameter( property = "license.fetchDeadline", defaultValue = "60" )
+    private int licenseFetchDeadline;
+
+    /**
+     * Overrides the header text of the <code>mailing-list</code> report.
+     */
+    @Parameter
+    private String introduction;
+
+    /**
+     * The directory name to checkout right after the SCM URL. See the <code>scm</code> report.
+     */
+    @Parameter( defaultValue = "${project.artifactId}" )
+    private String checkoutDirectoryName;
+
+    /**
+     * The SCM anonymous connection url. See the <code>scm</code> report.
+     */
+    @Parameter( defaultValue = "${project.scm.connection}" )
+    private String anonymousConnection;
+
+    /**
+     * The SCM developer connection url. See the <code>scm</code> report.
+     */
+    @Parameter( defaultValue = "${project.scm.developerConnection}" )
+    private String developerConnection;
+
+    /**
+     * The SCM web access url. See the <code>scm</code> report.
+     */
+    @Parameter( defaultValue = "${project.scm.url}" )
+    private String webAccessUrl;
+
+    /**
+     * The SCM tag. See the <code>scm</code> report.
+     */
+    @Parameter( defaultValue = "${project.scm.tag}" )
+    private String scmTag;
+
+    /**
+     * Shows avatar images for team members. See the <code>project-team</code> report.
+     */
+    @Parameter( property = "teamlist.showAvatarImages", defaultValue = "true" )
+    private boolean showAvatarImages;
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    public void execute()
+        throws MojoExecutionException
+    {
+        if ( skip )
+        {
+            return;
+        }
+
+        List<AbstractProjectInfoReport> reports = createReports();
+
+        prepareReports( reports );
+
+        for ( AbstractProjectInfoReport report : reports )
+        {
+            report.execute();
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return the goals of the reports generated by this mojo, in the rendering order
+     */
+    static Set<String> getReportGoals()
+    {
+        return REPORTS.keySet();
+    }
+
+    /**
+     * @return the configured reports to generate
+     * @throws MojoExecutionException if a goal is unknown
+     */
+    private List<AbstractProjectInfoReport> createReports()
+        throws MojoExecutionException
+    {
+        List<String> goals =
+            ( reportGoals == null || reportGoals.isEmpty() ) ? new ArrayList<String>( REPORTS.keySet() ) : reportGoals;
+
+        List<AbstractProjectInfoReport> reports = new ArrayList<AbstractProjectInfoReport>( goals.size() );
+        for ( String goal : goals )
+        {
+            Class<? extends AbstractProjectInfoReport> reportClass = REPORTS.get( goal );
+            if ( reportClass == null )
+            {
+                throw new MojoExecutionException( "Unknown report '" + goal + "', available reports are "
+                    + REPORTS.keySet() );
+            }
+
+            if ( reportClass == DependencyConvergenceReport.class && !isExecutionRoot() )
+            {
+                // aggregator report, generated once for the whole reactor
+                continue;
+            }
+
+            reports.add( createReport( goal, reportClass ) );
+        }
+        return reports;
+    }
+
+    /**
+     * Do the work of the reports which does not use the components shared by the reports before their generation,
+     * concurrently: the remote license files are fetched on a thread of their own while the dependency tree of the
+     * project is resolved once. The reports then render the results given here.
+     *
+     * @param reports the reports to generate, not null
+     * @throws MojoExecutionException if interrupted or if the license files could not be fetched
+     */
+    private void prepareReports( List<AbstractProjectInfoReport> reports )
+        throws MojoExecutionException
+    {
+        ExecutorService executor = null;
+        Future<?> licenses = null;
+        try
+        {
+            for ( AbstractProjectInfoReport report : reports )
+            {
+                if ( report instanceof LicensesReport )
+                {
+                    final LicensesReport licensesReport = (LicensesReport) report;
+                    executor = Executors.newSingleThreadExecutor();
+                    licenses = executor.submit( new Runnable()
+                    {
+                        public void run()
+                        {
+                            licensesReport.prefetchLicenses();
+                        }
+                    } );
+                }
+            }
+
+            for ( AbstractProjectInfoReport report : reports )
+            {
+                if ( report instanceof DependenciesReport )
+                {
+                    ( (DependenciesReport) report ).resolveDependencies();
+                }
+            }
+
+            if ( licenses != null )
+            {
+                licenses.get();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException( "Interrupted while fetching the license files", e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new MojoExecutionException( "Unable to fetch the license files", e.getCause() );
+        }
+        finally
+        {
+            if ( executor != null )
+            {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private boolean isExecutionRoot()
+    {
+        return reactorProjects == null || reactorProjects.isEmpty() || reactorProjects.get( 0 ) == project;
+    }
+
+    /**
+     * @param goal the goal of the report, not null
+     * @param reportClass not null
+     * @return a new report, with the values of the fields of this mojo having the same name as its parameters and
+     *         components
+     * @throws MojoExecutionException if a parameter or component of the report is not one of this mojo
+     */
+    private AbstractProjectInfoReport createReport( String goal,
+                                                    Class<? extends AbstractProjectInfoReport> reportClass )
+        throws MojoExecutionException
+    {
+        MojoDescriptor descriptor = plugin.getMojo( goal );
+        if ( descriptor == null )
+        {
+            throw new MojoExecutionException( "Unable to find the descriptor of the report '" + goal + "'" );
+        }
+
+        List<String> names = new ArrayList<String>();
+        if ( descriptor.getParameters() != null )
+        {
+            for ( Object parameter : descriptor.getParameters() )
+            {
+                names.add( ( (org.apache.maven.plugin.descriptor.Parameter) parameter ).getName() );
+            }
+        }
+        if ( descriptor.getRequirements() != null )
+        {
+            for ( Object requirement : descriptor.getRequirements() )
+            {
+                names.add( ( (ComponentRequirement) requirement ).getFieldName() );
+            }
+        }
+
+        try
+        {
+            AbstractProjectInfoReport report = reportClass.newInstance();
+
+            for ( String name : names )
+            {
+                Field source = getDeclaredField( AllReportsMojo.class, name );
+                Field target = getDeclaredField( reportClass, name );
+                if ( source == null || target == null || !target.getType().isAssignableFrom( source.getType() ) )
+                {
+                    throw new MojoExecutionException( "The field '" + name + "' of the report '" + goal
+                        + "' has no counterpart in the goal 'all'" );
+                }
+
+                target.set( report, source.get( this ) );
+            }
+
+            report.setLog( getLog() );
+            report.setPluginContext( getPluginContext() );
+
+            return report;
+        }
+        catch ( InstantiationException e )
+        {
+            throw new MojoExecutionException( "Unable to create the report " + reportClass.getName(), e );
+        }
+        catch ( IllegalAccessException e )
+        {
+            throw new MojoExecutionException( "Unable to configure the report " + reportClass.getName(), e );
+        }
+    }
+
+    /**
+     * @param type the class to search from, then its super classes
+     * @param name the field name
+     * @return the accessible field with the given name, or null
+     */
+    private static Field getDeclaredField( Class<?> type, String name )
+    {
+        for ( Class<?> c = type; c != null; c = c.getSuperclass() )
+        {
+            try
+            {
+                Field field = c.getDeclaredField( name );
+                field.setAccessible( true );
+                return field;
+            }
+            catch ( NoSuchFieldException e )
+            {
+                // try the super class
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,335 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * Persistent cache of the content of remote URLs, shared between builds. Each entry stores the bytes of the
+ * response with its <code>ETag</code> and <code>Last-Modified</code> headers, so that an entry older than the time to
+ * live can be revalidated with a conditional request, see
+ * {@link ProjectInfoReportUtils#getContent(URL, org.apache.maven.project.MavenProject,
+ * org.apache.maven.settings.Settings, String, ContentCache)}.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class ContentCache
+{
+    private final File directory;
+
+    private final long timeToLive;
+
+    /** The entries already read or written, by URL */
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+
+    /**
+     * @param directory the directory storing the entries, not null
+     * @param timeToLive the time in milliseconds during which an entry is used without revalidation
+     */
+    public ContentCache( File directory, long timeToLive )
+    {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @param url not null
+     * @return the cached entry of the URL, or null if the URL is not cached
+     */
+    public synchronized Entry get( URL url )
+    {
+        String key = url.toExternalForm();
+        Entry entry = entries.get( key );
+        if ( entry == null )
+        {
+            entry = read( key );
+            if ( entry != null )
+            {
+                entries.put( key, entry );
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * @param entry not null
+     * @return <code>true</code> if the entry can be used without revalidation
+     */
+    public boolean isFresh( Entry entry )
+    {
+        return System.currentTimeMillis() - entry.getFetched() < timeToLive;
+    }
+
+    /**
+     * Store the content of a URL. A failure to write the entry is ignored, the URL is then fetched again next time.
+     *
+     * @param url not null
+     * @param etag the <code>ETag</code> header of the response, could be null
+     * @param lastModified the <code>Last-Modified</code> header of the response, could be null
+     * @param content not null
+     * @return the new entry
+     */
+    public synchronized Entry put( URL url, String etag, String lastModified, byte[] content )
+    {
+        String key = url.toExternalForm();
+        Entry entry = new Entry( etag, lastModified, System.currentTimeMillis(), content );
+        entries.put( key, entry );
+        write( key, entry, true );
+        return entry;
+    }
+
+    /**
+     * Mark an entry as fetched now, after the server answered that it is not modified.
+     *
+     * @param url not null
+     * @param entry the cached entry of the URL, not null
+     * @return the revalidated entry
+     */
+    public synchronized Entry revalidate( URL url, Entry entry )
+    {
+        String key = url.toExternalForm();
+        Entry revalidated =
+            new Entry( entry.getEtag(), entry.getLastModified(), System.currentTimeMillis(), entry.getContent() );
+        entries.put( key, revalidated );
+        write( key, revalidated, false );
+        return revalidated;
+    }
+
+    private Entry read( String key )
+    {
+        String name = getFileName( key );
+        File propertiesFile = new File( directory, name + ".properties" );
+        File contentFile = new File( directory, name + ".content" );
+        if ( !propertiesFile.isFile() || !contentFile.isFile() )
+        {
+            return null;
+        }
+
+        InputStream in = null;
+        try
+        {
+            Properties properties = new Properties();
+            in = new FileInputStream( propertiesFile );
+            properties.load( in );
+            in.close();
+            in = null;
+
+            if ( !key.equals( properties.getProperty( "url" ) ) )
+            {
+                return null;
+            }
+
+            long fetched = Long.parseLong( properties.getProperty( "fetched", "0" ) );
+
+            in = new FileInputStream( contentFile );
+            byte[] content = IOUtil.toByteArray( in );
+            in.close();
+            in = null;
+
+            return new Entry( properties.getProperty( "etag" ), properties.getProperty( "lastModified" ), fetched,
+                              content );
+        }
+        catch ( IOException e )
+        {
+            return null;
+        }
+        catch ( NumberFormatException e )
+        {
+            return null;
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    private void write( String key, Entry entry, boolean withContent )
+    {
+        String name = getFileName( key );
+
+        Properties properties = new Properties();
+        properties.setProperty( "url", key );
+        properties.setProperty( "fetched", String.valueOf( entry.getFetched() ) );
+        if ( entry.getEtag() != null )
+        {
+            properties.setProperty( "etag", entry.getEtag() );
+        }
+        if ( entry.getLastModified() != null )
+        {
+            properties.setProperty( "lastModified", entry.getLastModified() );
+        }
+
+        try
+        {
+            directory.mkdirs();
+
+            if ( withContent )
+            {
+                replace( new File( directory, name + ".content" ), entry.getContent() );
+            }
+
+            // the properties last, an entry is only read when both files exist
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            properties.store( buffer, "maven-project-info-reports-plugin content cache" );
+            replace( new File( directory, name + ".properties" ), buffer.toByteArray() );
+        }
+        catch ( IOException e )
+        {
+            // the entry is not persisted, the URL will be fetched again by the next build
+            new File( directory, name + ".properties" ).delete();
+        }
+    }
+
+    /**
+     * Write a file through a temporary file of its own renamed into place, as concurrent builds could write the same
+     * entry and read it meanwhile.
+     *
+     * @param file not null
+     * @param bytes the new content of the file, not null
+     * @throws IOException if any
+     */
+    private static void replace( File file, byte[] bytes )
+        throws IOException
+    {
+        OutputStream out = null;
+        File tmpFile = File.createTempFile( file.getName(), ".tmp", file.getParentFile() );
+        try
+        {
+            out = new FileOutputStream( tmpFile );
+            out.write( bytes );
+            out.close();
+            out = null;
+
+            if ( !tmpFile.renameTo( file ) )
+            {
+                file.delete();
+                if ( !tmpFile.renameTo( file ) )
+                {
+                    throw new IOException( "Unable to rename " + tmpFile + " to " + file );
+                }
+            }
+        }
+        finally
+        {
+            IOUtil.close( out );
+            tmpFile.delete();
+        }
+    }
+
+    /**
+     * @param key the URL
+     * @return the SHA-1 checksum of the URL
+     */
+    private static String getFileName( String key )
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+
+            StringBuilder sb = new StringBuilder();
+            for ( byte b : digest.digest( key.getBytes( "UTF-8" ) ) )
+            {
+                sb.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+            }
+            return sb.toString();
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+        catch ( UnsupportedEncodingException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    /**
+     * The cached content of a URL.
+     */
+    public static final class Entry
+    {
+        private final String etag;
+
+        private final String lastModified;
+
+        private final long fetched;
+
+        private final byte[] content;
+
+        Entry( String etag, String lastModified, long fetched, byte[] content )
+        {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.fetched = fetched;
+            this.content = content;
+        }
+
+        /**
+         * @return the <code>ETag</code> header of the response, could be null
+         */
+        public String getEtag()
+        {
+            return etag;
+        }
+
+        /**
+         * @return the <code>Last-Modified</code> header of the response, could be null
+         */
+        public String getLastModified()
+        {
+            return lastModified;
+        }
+
+        /**
+         * @return the time of the last fetch or revalidation, in milliseconds
+         */
+        public long getFetched()
+        {
+            return fetched;
+        }
+
+        /**
+         * @return the content, not to be modified
+         */
+        public byte[] getContent()
+        {
+            return content;
+        }
+    }
+}
@@ -27,7 +27,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
 import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
@@ -41,8 +44,10 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProjectBuilder;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.JarDetailsCache;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.report.projectinfo.dependencies.renderer.DependenciesRenderer;
+import org.apache.maven.report.projectinfo.dependencies.renderer.DependencyTreeDetails;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
@@ -128,6 +133,84 @@ public class DependenciesReport
     @Parameter( property = "dependency.details.enabled", defaultValue = "true" )
     private boolean dependencyDetailsEnabled;
 
+    /**
+     * Number of threads used to analyze the dependency files when {@link #dependencyDetailsEnabled} is set. With the
+     * default value of <code>1</code>, files are analyzed one after another while the report is rendered.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.details.threads", defaultValue = "1" )
+    private int dependencyDetailsThreads;
+
+    /**
+     * File storing the details of the dependency files between builds, so that unchanged files are not analyzed
+     * again. Set it to an empty value to disable the cache.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.details.cacheFile", defaultValue = "${settings.localRepository}/.cache/"
+        + "maven-project-info-reports-plugin/jar-details.properties" )
+    private File dependencyDetailsCacheFile;
+
+    /**
+     * Also compare the SHA-1 checksum of the dependency files, and not only their size and last modification time,
+     * before using the details stored in {@link #dependencyDetailsCacheFile}.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.details.cacheChecksum", defaultValue = "false" )
+    private boolean dependencyDetailsCacheChecksum;
+
+    /**
+     * Compute the details of the dependency files from the jar central directory and the class headers, instead of
+     * parsing every class. Much faster on large jars, but classes and packages are counted from the entry names.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.details.fastScan", defaultValue = "false" )
+    private boolean dependencyDetailsFastScan;
+
+    /**
+     * Number of threads used to build the POMs of all the dependencies before rendering the report. With the
+     * default value of <code>1</code>, POMs are built one after another while the report is rendered.
+     * Use greater values only with a thread safe project builder, i.e. with Maven 3.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependencies.prefetchThreads", defaultValue = "1" )
+    private int prefetchThreads;
+
+    /**
+     * Write the details of the nodes of the dependency tree once per artifact into
+     * <code>dependencies-details.json</code>, loaded by the page when a node is clicked, instead of inlining them
+     * for every node. Makes the page much smaller with large dependency trees, but the details can not be shown
+     * when the page is browsed from the file system with browsers forbidding local requests.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.tree.lazyDetails", defaultValue = "false" )
+    private boolean dependencyTreeLazyDetails;
+
+    /**
+     * Render once each distinct subtree of the dependency tree, i.e. an artifact with the same dependencies, and only
+     * a link to it where it is repeated. The size of the tree then grows with the number of distinct subtrees instead
+     * of the number of paths.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.tree.deduplicate", defaultValue = "false" )
+    private boolean dependencyTreeDeduplicate;
+
+    /**
+     * The dependencies of the project, resolved once for {@link #canGenerateReport()} and {@link #executeReport}.
+     */
+    private Dependencies dependencies;
+
+    /**
+     * The resolved dependency tree of the project, see {@link #dependencies}.
+     */
+    private DependencyNode dependencyNode;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -139,9 +222,7 @@ public class DependenciesReport
         if ( result && skipEmptyReport )
         {
             // This seems to be a bit too much but the DependenciesRenderer applies the same logic
-            DependencyNode dependencyNode = resolveProject();
-            Dependencies dependencies = new Dependencies( project, dependencyNode, classesAnalyzer );
-            result = dependencies.hasDependencies();
+            result = getDependencies().hasDependencies();
         }
 
         return result;
@@ -162,20 +243,52 @@ public class DependenciesReport
         @SuppressWarnings( "unchecked" ) RepositoryUtils repoUtils =
             new RepositoryUtils( getLog(), mavenProjectBuilder, factory, resolver,
                                  project.getRemoteArtifactRepositories(), project.getPluginArtifactRepositories(),
-                                 localRepository, repositoryMetadataManager );
+                                 localRepository, repositoryMetadataManager, getMavenProjectCache() );
+
+        Dependencies dependencies = getDependencies();
 
-        DependencyNode dependencyNode = resolveProject();
+        JarDetailsCache jarDetailsCache = dependencyDetailsEnabled ? getJarDetailsCache() : null;
 
-        Dependencies dependencies = new Dependencies( project, dependencyNode, classesAnalyzer );
+        if ( prefetchThreads > 1 && dependencyNode != null )
+        {
+            List<Artifact> artifacts = new ArrayList<Artifact>( dependencies.getAllDependencies() );
+            artifacts.add( dependencyNode.getArtifact() );
 
-        DependenciesReportConfiguration config =
-            new DependenciesReportConfiguration( dependencyDetailsEnabled );
+            getLog().debug( "Prefetching " + artifacts.size() + " POMs with " + prefetchThreads + " threads" );
+            repoUtils.prefetchMavenProjects( artifacts, prefetchThreads );
+        }
+
+        DependenciesReportConfiguration config = new DependenciesReportConfiguration( dependencyDetailsEnabled );
+        config.setDependencyDetailsThreads( dependencyDetailsThreads );
+        config.setDependencyTreeLazyDetails( dependencyTreeLazyDetails );
+        config.setDependencyTreeDeduplicate( dependencyTreeDeduplicate );
 
         DependenciesRenderer r =
             new DependenciesRenderer( getSink(), locale, getI18N( locale ), getLog(), dependencies,
                                       dependencyNode, config, repoUtils, artifactFactory, mavenProjectBuilder,
                                       remoteRepositories, localRepository );
         r.render();
+
+        DependencyTreeDetails treeDetails = r.getDependencyTreeDetails();
+        if ( treeDetails != null )
+        {
+            try
+            {
+                treeDetails.write( new File( getOutputDirectory(), DependencyTreeDetails.FILE_NAME ) );
+            }
+            catch ( IOException e )
+            {
+                getLog().error( "Cannot write the details of the dependency tree", e );
+            }
+        }
+
+        getMavenProjectCache().logStatistics( getLog() );
+
+        if ( jarDetailsCache != null )
+        {
+            jarDetailsCache.save( getLog() );
+            jarDetailsCache.logStatistics( getLog() );
+        }
     }
 
     /**
@@ -196,6 +309,30 @@ public class DependenciesReport
     // Private methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Resolve the dependency tree of the project before the generation of the report, see {@link AllReportsMojo}.
+     */
+    void resolveDependencies()
+    {
+        getDependencies();
+    }
+
+    /**
+     * @return the dependencies of the project, the dependency tree being resolved on the first call only
+     */
+    private Dependencies getDependencies()
+    {
+        if ( dependencies == null )
+        {
+            dependencyNode = resolveProject();
+
+            JarDetailsCache jarDetailsCache = dependencyDetailsEnabled ? getJarDetailsCache() : null;
+            dependencies = new Dependencies( project, dependencyNode, classesAnalyzer, jarDetailsCache,
+                                             dependencyDetailsFastScan );
+        }
+        return dependencies;
+    }
+
     /**
      * @return resolve the dependency tree
      */
@@ -213,6 +350,29 @@ public class DependenciesReport
         }
     }
 
+    /**
+     * @return the persistent cache of the dependency file details shared by the build session, or null if disabled
+     */
+    private JarDetailsCache getJarDetailsCache()
+    {
+        if ( dependencyDetailsCacheFile == null || dependencyDetailsCacheFile.getPath().length() == 0 )
+        {
+            return null;
+        }
+
+        final File cacheFile = dependencyDetailsCacheFile.getAbsoluteFile();
+        return SessionScope.get( getSessionKey(), JarDetailsCache.class.getName() + ':' + cacheFile + ':'
+            + dependencyDetailsCacheChecksum, new SessionScope.Factory<JarDetailsCache>()
+        {
+            public JarDetailsCache create()
+            {
+                JarDetailsCache cache = new JarDetailsCache( cacheFile, dependencyDetailsCacheChecksum );
+                cache.load( getLog() );
+                return cache;
+            }
+        } );
+    }
+
     /**
      * @param outputDirectory the wanted output directory
      * @throws IOException if any
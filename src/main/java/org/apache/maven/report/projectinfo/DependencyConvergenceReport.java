@@ -31,6 +31,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
@@ -45,6 +50,7 @@ import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.dependencies.AncestorOrSelfFilteringDependencyNodeVisitor;
 import org.apache.maven.report.projectinfo.dependencies.DependencyVersionMap;
 import org.apache.maven.report.projectinfo.dependencies.SinkSerializingDependencyNodeVisitor;
 import org.apache.maven.reporting.MavenReportException;
@@ -52,14 +58,11 @@ import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilt
 import org.apache.maven.shared.dependency.tree.DependencyNode;
 import org.apache.maven.shared.dependency.tree.DependencyTreeBuilder;
 import org.apache.maven.shared.dependency.tree.DependencyTreeBuilderException;
-import org.apache.maven.shared.dependency.tree.filter.AncestorOrSelfDependencyNodeFilter;
 import org.apache.maven.shared.dependency.tree.filter.AndDependencyNodeFilter;
 import org.apache.maven.shared.dependency.tree.filter.ArtifactDependencyNodeFilter;
 import org.apache.maven.shared.dependency.tree.filter.DependencyNodeFilter;
 import org.apache.maven.shared.dependency.tree.traversal.BuildingDependencyNodeVisitor;
-import org.apache.maven.shared.dependency.tree.traversal.CollectingDependencyNodeVisitor;
 import org.apache.maven.shared.dependency.tree.traversal.DependencyNodeVisitor;
-import org.apache.maven.shared.dependency.tree.traversal.FilteringDependencyNodeVisitor;
 
 /**
  * Generates the Project Dependency Convergence report for (reactor) builds.
@@ -92,6 +95,16 @@ public class DependencyConvergenceReport
     @Parameter( property = "reactorProjects", required = true, readonly = true )
     private List<MavenProject> reactorProjects;
 
+    /**
+     * Number of threads used to build the dependency trees of the reactor projects. With the default value of
+     * <code>1</code>, trees are built one after another. The report is the same whatever the value.
+     * Use greater values only with a thread safe dependency tree builder, i.e. with Maven 3.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "dependency.convergence.threads", defaultValue = "1" )
+    private int dependencyTreeThreads;
+
     /**
      * Dependency tree builder, will use it to build dependency tree.
      */
@@ -451,13 +464,7 @@ public class DependencyConvergenceReport
 
         if ( filter != null )
         {
-            CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
-            DependencyNodeVisitor firstPassVisitor = new FilteringDependencyNodeVisitor( collectingVisitor, filter );
-            rootNode.accept( firstPassVisitor );
-
-            DependencyNodeFilter secondPassFilter =
-                new AncestorOrSelfDependencyNodeFilter( collectingVisitor.getNodes() );
-            visitor = new FilteringDependencyNodeVisitor( visitor, secondPassFilter );
+            visitor = new AncestorOrSelfFilteringDependencyNodeVisitor( visitor, filter );
         }
 
         rootNode.accept( visitor );
@@ -766,16 +773,24 @@ public class DependencyConvergenceReport
         Map<String, List<ReverseDependencyLink>> conflictingDependencyMap =
             new TreeMap<String, List<ReverseDependencyLink>>();
         Map<String, List<ReverseDependencyLink>> allDependencies = new TreeMap<String, List<ReverseDependencyLink>>();
+        Map<String, Set<String>> allDependencyVersions = new HashMap<String, Set<String>>();
 
-        for ( MavenProject reactorProject : reactorProjects )
+        // merged in the reactor order, whatever the order the trees were built in
+        List<DependencyNode> nodes = getNodes( reactorProjects );
+        for ( int i = 0; i < reactorProjects.size(); i++ )
         {
-            DependencyNode node = getNode( reactorProject );
+            MavenProject reactorProject = reactorProjects.get( i );
+            DependencyNode node = nodes.get( i );
 
             this.projectMap.put( reactorProject, node );
 
-            getConflictingDependencyMap( conflictingDependencyMap, reactorProject, node );
+            // a single walk of the tree for both maps
+            DescendantsVisitor visitor = new DescendantsVisitor();
+            node.accept( visitor );
+
+            getConflictingDependencyMap( conflictingDependencyMap, reactorProject, visitor.getVersionMap() );
 
-            getAllDependencyMap( allDependencies, reactorProject, node );
+            getAllDependencyMap( allDependencies, allDependencyVersions, reactorProject, visitor.getDescendants() );
         }
 
         return populateDependencyAnalyzeResult( conflictingDependencyMap, allDependencies );
@@ -805,20 +820,15 @@ public class DependencyConvergenceReport
     }
 
     /**
-     * Get conflicting dependency map base on specified dependency node.
+     * Get conflicting dependency map base on specified dependency versions.
      *
      * @param conflictingDependencyMap
      * @param reactorProject
-     * @param node
+     * @param visitor the dependency versions of the reactor project
      */
     private void getConflictingDependencyMap( Map<String, List<ReverseDependencyLink>> conflictingDependencyMap,
-                                              MavenProject reactorProject, DependencyNode node )
+                                              MavenProject reactorProject, DependencyVersionMap visitor )
     {
-        DependencyVersionMap visitor = new DependencyVersionMap();
-        visitor.setUniqueVersions( true );
-
-        node.accept( visitor );
-
         for ( List<DependencyNode> nodes : visitor.getConflictedVersionNumbers() )
         {
             DependencyNode dependencyNode = nodes.get( 0 );
@@ -847,33 +857,33 @@ public class DependencyConvergenceReport
     }
 
     /**
-     * Get all dependencies (both directive & transitive dependencies) by specified dependency node.
+     * Get all dependencies (both directive & transitive dependencies) of a reactor project.
      *
      * @param allDependencies
+     * @param allDependencyVersions the versions already in <code>allDependencies</code>, by groupId:artifactId
      * @param reactorProject
-     * @param node
+     * @param artifacts all the descendants of the reactor project node
      */
-    private void getAllDependencyMap( Map<String, List<ReverseDependencyLink>> allDependencies,
-                                      MavenProject reactorProject, DependencyNode node )
+    void getAllDependencyMap( Map<String, List<ReverseDependencyLink>> allDependencies,
+                              Map<String, Set<String>> allDependencyVersions, MavenProject reactorProject,
+                              Set<Artifact> artifacts )
     {
-        Set<Artifact> artifacts = getAllDescendants( node );
-
         for ( Artifact art : artifacts )
         {
             String key = art.getGroupId() + ":" + art.getArtifactId();
 
-            List<ReverseDependencyLink> reverseDepependencies = allDependencies.get( key );
-            if ( reverseDepependencies == null )
+            Set<String> versions = allDependencyVersions.get( key );
+            if ( versions == null )
             {
-                reverseDepependencies = new ArrayList<ReverseDependencyLink>();
+                versions = new HashSet<String>();
+                allDependencyVersions.put( key, versions );
+                allDependencies.put( key, new ArrayList<ReverseDependencyLink>() );
             }
 
-            if ( !containsDependency( reverseDepependencies, art ) )
+            if ( versions.add( art.getVersion() ) )
             {
-                reverseDepependencies.add( new ReverseDependencyLink( toDependency( art ), reactorProject ) );
+                allDependencies.get( key ).add( new ReverseDependencyLink( toDependency( art ), reactorProject ) );
             }
-
-            allDependencies.put( key, reverseDepependencies );
         }
     }
 
@@ -895,29 +905,6 @@ public class DependencyConvergenceReport
         return dependency;
     }
 
-    /**
-     * To check whether dependency list contains a given artifact.
-     *
-     * @param reverseDependencies
-     * @param art
-     * @return contains:true; Not contains:false;
-     */
-    private boolean containsDependency( List<ReverseDependencyLink> reverseDependencies, Artifact art )
-    {
-
-        for ( ReverseDependencyLink revDependency : reverseDependencies )
-        {
-            Dependency dep = revDependency.getDependency();
-            if ( dep.getGroupId().equals( art.getGroupId() ) && dep.getArtifactId().equals( art.getArtifactId() )
-                && dep.getVersion().equals( art.getVersion() ) )
-            {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Get root node of dependency tree for a given project
      *
@@ -943,28 +930,67 @@ public class DependencyConvergenceReport
     }
 
     /**
-     * Get all descendants nodes for a given dependency node.
+     * Get root nodes of dependency trees for the given projects, built on {@link #dependencyTreeThreads} threads.
      *
-     * @param node
-     * @return set of descendants artifacts.
+     * @param projects
+     * @return root nodes of dependency trees, in the order of the given projects
+     * @throws MavenReportException
      */
-    private Set<Artifact> getAllDescendants( DependencyNode node )
+    private List<DependencyNode> getNodes( List<MavenProject> projects )
+        throws MavenReportException
     {
-        Set<Artifact> children = null;
-        if ( node.getChildren() != null )
+        List<DependencyNode> nodes = new ArrayList<DependencyNode>( projects.size() );
+
+        int threads = Math.min( dependencyTreeThreads, projects.size() );
+        if ( threads <= 1 )
         {
-            children = new HashSet<Artifact>();
-            for ( DependencyNode depNode : node.getChildren() )
+            for ( MavenProject project : projects )
             {
-                children.add( depNode.getArtifact() );
-                Set<Artifact> subNodes = getAllDescendants( depNode );
-                if ( subNodes != null )
+                nodes.add( getNode( project ) );
+            }
+            return nodes;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<DependencyNode>> futures = new ArrayList<Future<DependencyNode>>( projects.size() );
+            for ( final MavenProject project : projects )
+            {
+                futures.add( executor.submit( new Callable<DependencyNode>()
                 {
-                    children.addAll( subNodes );
-                }
+                    public DependencyNode call()
+                        throws MavenReportException
+                    {
+                        return getNode( project );
+                    }
+                } ) );
+            }
+
+            for ( Future<DependencyNode> future : futures )
+            {
+                nodes.add( future.get() );
+            }
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof MavenReportException )
+            {
+                throw (MavenReportException) e.getCause();
             }
+            throw new MavenReportException( "Could not build dependency tree: " + e.getCause().getMessage(), e );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MavenReportException( "Interrupted while building dependency trees" );
         }
-        return children;
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        return nodes;
     }
 
     private int calculateConvergence( DependencyAnalyzeResult result )
@@ -976,7 +1002,7 @@ public class DependencyConvergenceReport
     /**
      * Internal object
      */
-    private static class ReverseDependencyLink
+    static class ReverseDependencyLink
     {
         private Dependency dependency;
 
@@ -1005,6 +1031,72 @@ public class DependencyConvergenceReport
         }
     }
 
+    /**
+     * Collects all the descendant artifacts of the visited node, while feeding a {@link DependencyVersionMap} with
+     * the nodes it would have visited itself, so that a tree is walked only once.
+     */
+    static class DescendantsVisitor
+        implements DependencyNodeVisitor
+    {
+        private final DependencyVersionMap versionMap = new DependencyVersionMap();
+
+        private final Set<Artifact> descendants = new HashSet<Artifact>();
+
+        private DependencyNode root;
+
+        /** The node whose children are not visited by the version map, if any */
+        private DependencyNode prunedNode;
+
+        DescendantsVisitor()
+        {
+            versionMap.setUniqueVersions( true );
+        }
+
+        /** {@inheritDoc} */
+        public boolean visit( DependencyNode node )
+        {
+            if ( root == null )
+            {
+                root = node;
+            }
+            else
+            {
+                descendants.add( node.getArtifact() );
+            }
+
+            if ( prunedNode == null && !versionMap.visit( node ) )
+            {
+                prunedNode = node;
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        public boolean endVisit( DependencyNode node )
+        {
+            if ( prunedNode == null )
+            {
+                versionMap.endVisit( node );
+            }
+            else if ( prunedNode == node )
+            {
+                versionMap.endVisit( node );
+                prunedNode = null;
+            }
+            return true;
+        }
+
+        DependencyVersionMap getVersionMap()
+        {
+            return versionMap;
+        }
+
+        Set<Artifact> getDescendants()
+        {
+            return descendants;
+        }
+    }
+
     /**
      * Internal ReverseDependencyLink comparator
      */
@@ -106,13 +106,15 @@ public class DependencyManagementReport
         @SuppressWarnings( "unchecked" ) RepositoryUtils repoUtils =
             new RepositoryUtils( getLog(), mavenProjectBuilder, factory, resolver,
                                  project.getRemoteArtifactRepositories(), project.getPluginArtifactRepositories(),
-                                 localRepository, repositoryMetadataManager );
+                                 localRepository, repositoryMetadataManager, getMavenProjectCache() );
 
         DependencyManagementRenderer r =
             new DependencyManagementRenderer( getSink(), locale, getI18N( locale ), getLog(),
                                               getManagementDependencies(), artifactMetadataSource, artifactFactory,
                                               mavenProjectBuilder, remoteRepositories, localRepository, repoUtils );
         r.render();
+
+        getMavenProjectCache().logStatistics( getLog() );
     }
 
     /**
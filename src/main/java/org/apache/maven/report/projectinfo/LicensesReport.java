@@ -32,12 +32,22 @@ import org.codehaus.plexus.util.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Generates the Project Licenses report.
@@ -63,7 +73,7 @@ public class LicensesReport
     /**
      * Whether the only render links to the license documents instead of inlining them.
      * <br/>
-     * If the system is in {@link #offline} mode, the linkOnly parameter will be always <code>true</code>.
+     * If the system is in {@link #offline} mode, only a link is rendered for the remote license files not cached.
      *
      * @since 2.3
      */
@@ -78,6 +88,51 @@ public class LicensesReport
     @Parameter
     private String licenseFileEncoding;
 
+    /**
+     * Directory storing the content of the remote license files between builds. Set it to an empty value to disable
+     * the cache. When the system is {@link #offline}, the cached license files are still inlined.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "license.cacheDirectory", defaultValue = "${settings.localRepository}/.cache/"
+        + "maven-project-info-reports-plugin/licenses" )
+    private File licenseCacheDirectory;
+
+    /**
+     * Time in minutes during which a cached license file is used without checking if it changed on the server.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "license.cacheTimeToLive", defaultValue = "1440" )
+    private int licenseCacheTimeToLive;
+
+    /**
+     * Number of threads used to fetch the remote license files before rendering the report. With the default value
+     * of <code>1</code>, the license files are fetched one after another.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "license.fetchThreads", defaultValue = "1" )
+    private int licenseFetchThreads;
+
+    /**
+     * Connect and read timeout in seconds when fetching a remote license file.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "license.fetchTimeout", defaultValue = "5" )
+    private int licenseFetchTimeout;
+
+    /**
+     * Time in seconds given to fetch all the remote license files. Only a link is rendered for the license files not
+     * fetched in time, in this module and in the next modules of the build. A value of <code>0</code> or less means no
+     * deadline.
+     *
+     * @since 2.10
+     */
+    @Parameter( property = "license.fetchDeadline", defaultValue = "60" )
+    private int licenseFetchDeadline;
+
     // ----------------------------------------------------------------------
     // Public methods
     // ----------------------------------------------------------------------
@@ -124,10 +179,9 @@ public class LicensesReport
                 return true;
             }
 
-            if ( licenseUrl != null
-                && ( licenseUrl.getProtocol().equals( "http" ) || licenseUrl.getProtocol().equals( "https" ) ) )
+            if ( licenseUrl != null && isRemote( licenseUrl ) )
             {
-                linkOnly = true;
+                // only a link is rendered for the license files not cached, see isUnavailableOffline()
                 return true;
             }
         }
@@ -138,9 +192,16 @@ public class LicensesReport
     @Override
     public void executeReport( Locale locale )
     {
+        Map<String, LicenseContent> licenseContents = getLicenseContents();
+        if ( !linkOnly )
+        {
+            prefetchLicenses( licenseContents );
+        }
+
         LicensesRenderer r =
             new LicensesRenderer( getSink(), getProject(), getI18N( locale ), locale, settings,
-                                 linkOnly, licenseFileEncoding );
+                                 linkOnly, offline, licenseFileEncoding, getContentCache(), licenseContents,
+                                 licenseFetchTimeout * 1000 );
 
         r.render();
     }
@@ -217,6 +278,184 @@ public class LicensesReport
     // Private
     // ----------------------------------------------------------------------
 
+    /**
+     * Fetch the remote license files before the generation of the report, see {@link AllReportsMojo}. The license
+     * contents are kept in the build session, where the report finds them.
+     */
+    void prefetchLicenses()
+    {
+        if ( !linkOnly )
+        {
+            prefetchLicenses( getLicenseContents() );
+        }
+    }
+
+    /**
+     * Fetch the remote license files not fetched yet in the build session, on {@link #licenseFetchThreads} threads
+     * and before {@link #licenseFetchDeadline}. The license files not fetched in time are recorded as
+     * {@link LicenseContent#UNAVAILABLE}, so that the next modules do not wait for them again.
+     *
+     * @param licenseContents the license contents of the build session, by URL and encoding, not null
+     */
+    private void prefetchLicenses( Map<String, LicenseContent> licenseContents )
+    {
+        final ContentCache contentCache = getContentCache();
+        Map<String, URL> licenseUrls = new LinkedHashMap<String, URL>();
+        for ( License license : project.getModel().getLicenses() )
+        {
+            if ( license.getUrl() == null )
+            {
+                continue;
+            }
+
+            try
+            {
+                URL licenseUrl = getLicenseURL( project, license.getUrl() );
+                String key = getLicenseContentKey( licenseUrl, licenseFileEncoding );
+                if ( isRemote( licenseUrl ) && !licenseContents.containsKey( key )
+                    && !isUnavailableOffline( licenseUrl, offline, contentCache ) )
+                {
+                    licenseUrls.put( key, licenseUrl );
+                }
+            }
+            catch ( IOException e )
+            {
+                // reported by the renderer
+            }
+        }
+
+        if ( licenseUrls.isEmpty() )
+        {
+            return;
+        }
+
+        final int timeout = licenseFetchTimeout * 1000;
+        long deadline = System.currentTimeMillis() + licenseFetchDeadline * 1000L;
+
+        int threads = Math.max( 1, Math.min( licenseFetchThreads, licenseUrls.size() ) );
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            Map<String, Future<LicenseContent>> futures = new LinkedHashMap<String, Future<LicenseContent>>();
+            for ( Map.Entry<String, URL> entry : licenseUrls.entrySet() )
+            {
+                final URL licenseUrl = entry.getValue();
+                futures.put( entry.getKey(), executor.submit( new Callable<LicenseContent>()
+                {
+                    public LicenseContent call()
+                    {
+                        return LicensesRenderer.getLicenseContent( licenseUrl, settings, licenseFileEncoding,
+                                                                   contentCache, timeout );
+                    }
+                } ) );
+            }
+
+            for ( Map.Entry<String, Future<LicenseContent>> entry : futures.entrySet() )
+            {
+                try
+                {
+                    LicenseContent licenseContent;
+                    if ( licenseFetchDeadline > 0 )
+                    {
+                        long remaining = Math.max( 0, deadline - System.currentTimeMillis() );
+                        licenseContent = entry.getValue().get( remaining, TimeUnit.MILLISECONDS );
+                    }
+                    else
+                    {
+                        licenseContent = entry.getValue().get();
+                    }
+                    licenseContents.put( entry.getKey(), licenseContent );
+                }
+                catch ( TimeoutException e )
+                {
+                    getLog().warn( "The license " + licenseUrls.get( entry.getKey() )
+                        + " was not fetched in time, only a link is rendered." );
+                    licenseContents.put( entry.getKey(), LicenseContent.UNAVAILABLE );
+                }
+                catch ( ExecutionException e )
+                {
+                    // fetched again by the renderer
+                    getLog().debug( e.getCause() );
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                    licenseContents.put( entry.getKey(), LicenseContent.UNAVAILABLE );
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param licenseUrl not null
+     * @return <code>true</code> if the license file is fetched from a server
+     */
+    private static boolean isRemote( URL licenseUrl )
+    {
+        return licenseUrl.getProtocol().equals( "http" ) || licenseUrl.getProtocol().equals( "https" );
+    }
+
+    /**
+     * @param licenseUrl not null
+     * @param offline whether the system is offline
+     * @param contentCache could be null
+     * @return <code>true</code> if the license file can not be read offline, only a link is rendered then
+     */
+    private static boolean isUnavailableOffline( URL licenseUrl, boolean offline, ContentCache contentCache )
+    {
+        return offline && isRemote( licenseUrl ) && ( contentCache == null || contentCache.get( licenseUrl ) == null );
+    }
+
+    /**
+     * @param licenseUrl not null
+     * @param encoding the encoding of the license file, could be null
+     * @return the key of the license content in the map of the build session
+     */
+    private static String getLicenseContentKey( URL licenseUrl, String encoding )
+    {
+        return licenseUrl.toExternalForm() + ' ' + encoding;
+    }
+
+    /**
+     * @return the license contents already rendered in the build session, by URL and encoding
+     */
+    private Map<String, LicenseContent> getLicenseContents()
+    {
+        return SessionScope.get( getSessionKey(), LicenseContent.class.getName(),
+                                 new SessionScope.Factory<Map<String, LicenseContent>>()
+                                 {
+                                     public Map<String, LicenseContent> create()
+                                     {
+                                         return new ConcurrentHashMap<String, LicenseContent>();
+                                     }
+                                 } );
+    }
+
+    /**
+     * @return the persistent cache of the remote license files shared by the build session, or null if disabled
+     */
+    private ContentCache getContentCache()
+    {
+        if ( licenseCacheDirectory == null || licenseCacheDirectory.getPath().length() == 0 )
+        {
+            return null;
+        }
+
+        final File directory = licenseCacheDirectory.getAbsoluteFile();
+        return SessionScope.get( getSessionKey(), ContentCache.class.getName() + ':' + directory + ':'
+            + licenseCacheTimeToLive, new SessionScope.Factory<ContentCache>()
+        {
+            public ContentCache create()
+            {
+                return new ContentCache( directory, licenseCacheTimeToLive * 60L * 1000L );
+            }
+        } );
+    }
+
     /**
      * Internal renderer class
      */
@@ -229,10 +468,19 @@ public class LicensesReport
 
         private final boolean linkOnly;
 
+        private final boolean offline;
+
         private final String licenseFileEncoding;
 
+        private final ContentCache contentCache;
+
+        private final Map<String, LicenseContent> licenseContents;
+
+        private final int timeout;
+
         LicensesRenderer( Sink sink, MavenProject project, I18N i18n, Locale locale, Settings settings,
-                         boolean linkOnly, String licenseFileEncoding )
+                         boolean linkOnly, boolean offline, String licenseFileEncoding, ContentCache contentCache,
+                         Map<String, LicenseContent> licenseContents, int timeout )
         {
             super( sink, i18n, locale );
 
@@ -242,7 +490,15 @@ public class LicensesReport
 
             this.linkOnly = linkOnly;
 
+            this.offline = offline;
+
             this.licenseFileEncoding = licenseFileEncoding;
+
+            this.contentCache = contentCache;
+
+            this.licenseContents = licenseContents;
+
+            this.timeout = timeout;
         }
 
         @Override
@@ -326,7 +582,7 @@ public class LicensesReport
                     {
                         URL licenseUrl = getLicenseURL( project, url );
 
-                        if ( linkOnly )
+                        if ( linkOnly || isUnavailableOffline( licenseUrl, offline, contentCache ) )
                         {
                             link( licenseUrl.toExternalForm(), licenseUrl.toExternalForm() );
                         }
@@ -359,11 +615,54 @@ public class LicensesReport
          * @param licenseUrl the license URL
          */
         private void renderLicenseContent( URL licenseUrl )
+        {
+            String key = getLicenseContentKey( licenseUrl, licenseFileEncoding );
+            LicenseContent licenseContent = licenseContents.get( key );
+            if ( licenseContent == LicenseContent.UNAVAILABLE )
+            {
+                link( licenseUrl.toExternalForm(), licenseUrl.toExternalForm() );
+                return;
+            }
+
+            if ( licenseContent == null )
+            {
+                licenseContent = getLicenseContent( licenseUrl, settings, licenseFileEncoding, contentCache, timeout );
+                licenseContents.put( key, licenseContent );
+            }
+
+            if ( licenseContent.getError() != null )
+            {
+                paragraph( "Can't read the url [" + licenseUrl + "] : " + licenseContent.getError() );
+            }
+            else if ( licenseContent.getBody() != null )
+            {
+                link( licenseUrl.toExternalForm(), getI18nString( "originalText" ) );
+                paragraph( getI18nString( "copy" ) );
+
+                sink.rawText( licenseContent.getBody() );
+            }
+            else
+            {
+                verbatimText( licenseContent.getText() );
+            }
+        }
+
+        /**
+         * @param licenseUrl the license URL
+         * @param settings not null
+         * @param licenseFileEncoding could be null
+         * @param contentCache could be null
+         * @param timeout the connect and read timeout in milliseconds
+         * @return the content of the license, with the links of an HTML body made absolute
+         */
+        static LicenseContent getLicenseContent( URL licenseUrl, Settings settings, String licenseFileEncoding,
+                                                 ContentCache contentCache, int timeout )
         {
             try
             {
                 // All licenses are supposed to be in English...
-                String licenseContent = ProjectInfoReportUtils.getContent( licenseUrl, settings, licenseFileEncoding );
+                String licenseContent = ProjectInfoReportUtils.getContent( licenseUrl, null, settings,
+                                                                           licenseFileEncoding, contentCache, timeout );
 
                 // TODO: we should check for a text/html mime type instead, and possibly use a html parser to do this a bit more cleanly/reliably.
                 String licenseContentLC = licenseContent.toLowerCase( Locale.ENGLISH );
@@ -374,22 +673,20 @@ public class LicensesReport
                     && ( ( bodyStart >= 0 ) && ( bodyEnd > bodyStart ) ) )
                 {
                     bodyStart = licenseContentLC.indexOf( ">", bodyStart ) + 1;
-                    String body = licenseContent.substring( bodyStart, bodyEnd );
 
-                    link( licenseUrl.toExternalForm(), getI18nString( "originalText" ) );
-                    paragraph( getI18nString( "copy" ) );
+                    StringWriter body = new StringWriter( bodyEnd - bodyStart );
+                    Writer writer = RelativeLinksWriter.create( body, baseURL( licenseUrl ).toExternalForm() );
+                    writer.write( licenseContent, bodyStart, bodyEnd - bodyStart );
+                    writer.close();
 
-                    body = replaceRelativeLinks( body, baseURL( licenseUrl ).toExternalForm() );
-                    sink.rawText( body );
-                }
-                else
-                {
-                    verbatimText( licenseContent );
+                    return new LicenseContent( body.toString(), null, null );
                 }
+
+                return new LicenseContent( null, licenseContent, null );
             }
             catch ( IOException e )
             {
-                paragraph( "Can't read the url [" + licenseUrl + "] : " + e.getMessage() );
+                return new LicenseContent( null, null, e.getMessage() );
             }
         }
 
@@ -411,61 +708,51 @@ public class LicensesReport
 
             return aUrl;
         }
+    }
 
-        private static String replaceRelativeLinks( String html, String baseURL )
-        {
-            String url = baseURL;
-            if ( !url.endsWith( "/" ) )
-            {
-                url += "/";
-            }
+    /**
+     * The content of a license file as rendered in the report, shared by the modules of a build.
+     */
+    private static final class LicenseContent
+    {
+        /** The content of a license file not fetched before the deadline, only a link is rendered */
+        static final LicenseContent UNAVAILABLE = new LicenseContent( null, null, null );
+
+        private final String body;
+
+        private final String text;
 
-            String serverURL = url.substring( 0, url.indexOf( '/', url.indexOf( "//" ) + 2 ) );
+        private final String error;
 
-            String content = replaceParts( html, url, serverURL, "[aA]", "[hH][rR][eE][fF]" );
-            content = replaceParts( content, url, serverURL, "[iI][mM][gG]", "[sS][rR][cC]" );
-            return content;
+        LicenseContent( String body, String text, String error )
+        {
+            this.body = body;
+            this.text = text;
+            this.error = error;
         }
 
-        private static String replaceParts( String html, String baseURL, String serverURL, String tagPattern,
-                                            String attributePattern )
+        /**
+         * @return the HTML body of the license with absolute links, or null if the license is not HTML
+         */
+        String getBody()
         {
-            Pattern anchor = Pattern.compile(
-                "(<\\s*" + tagPattern + "\\s+[^>]*" + attributePattern + "\\s*=\\s*\")([^\"]*)\"([^>]*>)" );
-            StringBuilder sb = new StringBuilder( html );
+            return body;
+        }
 
-            int indx = 0;
-            boolean done = false;
-            while ( !done )
-            {
-                Matcher mAnchor = anchor.matcher( sb );
-                if ( mAnchor.find( indx ) )
-                {
-                    indx = mAnchor.end( 3 );
+        /**
+         * @return the text of the license, or null if the license is HTML
+         */
+        String getText()
+        {
+            return text;
+        }
 
-                    if ( mAnchor.group( 2 ).startsWith( "#" ) )
-                    {
-                        // relative link - don't want to alter this one!
-                    }
-                    if ( mAnchor.group( 2 ).startsWith( "/" ) )
-                    {
-                        // root link
-                        sb.insert( mAnchor.start( 2 ), serverURL );
-                        indx += serverURL.length();
-                    }
-                    else if ( mAnchor.group( 2 ).indexOf( ':' ) < 0 )
-                    {
-                        // relative link
-                        sb.insert( mAnchor.start( 2 ), baseURL );
-                        indx += baseURL.length();
-                    }
-                }
-                else
-                {
-                    done = true;
-                }
-            }
-            return sb.toString();
+        /**
+         * @return the message of the error that occurred while reading the license, or null
+         */
+        String getError()
+        {
+            return error;
         }
     }
 }
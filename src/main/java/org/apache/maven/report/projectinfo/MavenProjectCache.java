@@ -0,0 +1,259 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectBuilder;
+import org.apache.maven.project.ProjectBuildingException;
+
+/**
+ * Bounded cache of the <code>MavenProject</code> models built from the repository, keyed by
+ * <code>groupId:artifactId:version</code> and whether a stub model is allowed, since a stub model must not be served
+ * to a caller expecting the POM to be found. One instance is shared by all the reports of a build session, see
+ * {@link #getInstance(Object)}, so that each POM is built at most once, even when it is requested concurrently.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class MavenProjectCache
+{
+    /** The default maximum number of cached models */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Map<String, FutureTask<MavenProject>> projects;
+
+    private int maxSize;
+
+    private long hits;
+
+    private long misses;
+
+    /**
+     * @param maxSize the maximum number of cached models, the least recently used ones are evicted first.
+     */
+    public MavenProjectCache( int maxSize )
+    {
+        this.maxSize = maxSize;
+        this.projects = new LinkedHashMap<String, FutureTask<MavenProject>>( 16, 0.75f, true )
+        {
+            private static final long serialVersionUID = 1L;
+
+            /** {@inheritDoc} */
+            protected boolean removeEldestEntry( Map.Entry<String, FutureTask<MavenProject>> eldest )
+            {
+                return size() > MavenProjectCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Grow the cache if needed, so that the given number of models requested together are not evicted before they
+     * are used, for instance the ones built ahead of rendering.
+     *
+     * @param minSize the minimum number of cached models
+     */
+    public synchronized void ensureCapacity( int minSize )
+    {
+        if ( minSize > maxSize )
+        {
+            maxSize = minSize;
+        }
+    }
+
+    /**
+     * @return the maximum number of cached models
+     */
+    public synchronized int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    /**
+     * @param session the object identifying the build session, not null
+     * @return the cache shared by the given build session
+     * @see SessionScope
+     */
+    public static MavenProjectCache getInstance( Object session )
+    {
+        return SessionScope.get( session, MavenProjectCache.class.getName(),
+                                 new SessionScope.Factory<MavenProjectCache>()
+                                 {
+                                     public MavenProjectCache create()
+                                     {
+                                         return new MavenProjectCache( DEFAULT_MAX_SIZE );
+                                     }
+                                 } );
+    }
+
+    /**
+     * Get the <code>MavenProject</code> for a project artifact, building it with the given builder if it is not
+     * cached yet.
+     *
+     * @param mavenProjectBuilder not null
+     * @param projectArtifact the <code>pom</code> artifact, not null
+     * @param remoteRepositories could be null
+     * @param localRepository not null
+     * @param allowStubModel <code>true</code> to return a stub model if the POM is not found
+     * @return the Maven project, never null
+     * @throws ProjectBuildingException if any
+     * @see MavenProjectBuilder#buildFromRepository(Artifact, List, ArtifactRepository, boolean)
+     */
+    public MavenProject buildFromRepository( final MavenProjectBuilder mavenProjectBuilder,
+                                             final Artifact projectArtifact,
+                                             List<ArtifactRepository> remoteRepositories,
+                                             final ArtifactRepository localRepository, final boolean allowStubModel )
+        throws ProjectBuildingException
+    {
+        String key = getKey( projectArtifact, allowStubModel );
+
+        @SuppressWarnings( "unchecked" )
+        final List<ArtifactRepository> repositories =
+            remoteRepositories == null ? Collections.EMPTY_LIST : remoteRepositories;
+
+        FutureTask<MavenProject> future;
+        boolean build = false;
+        synchronized ( this )
+        {
+            future = projects.get( key );
+            if ( future == null )
+            {
+                future = new FutureTask<MavenProject>( new Callable<MavenProject>()
+                {
+                    public MavenProject call()
+                        throws ProjectBuildingException
+                    {
+                        return mavenProjectBuilder.buildFromRepository( projectArtifact, repositories,
+                                                                        localRepository, allowStubModel );
+                    }
+                } );
+                projects.put( key, future );
+                build = true;
+                misses++;
+            }
+            else
+            {
+                hits++;
+            }
+        }
+
+        // concurrent requests of the same model wait for the one building it
+        if ( build )
+        {
+            future.run();
+        }
+
+        try
+        {
+            return future.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new ProjectBuildingException( key, "Interrupted while building the project", e );
+        }
+        catch ( ExecutionException e )
+        {
+            // failures are not cached, the next request builds the model again
+            synchronized ( this )
+            {
+                if ( projects.get( key ) == future )
+                {
+                    projects.remove( key );
+                }
+            }
+
+            Throwable cause = e.getCause();
+            if ( cause instanceof ProjectBuildingException )
+            {
+                throw (ProjectBuildingException) cause;
+            }
+            if ( cause instanceof RuntimeException )
+            {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            throw new ProjectBuildingException( key, cause.getMessage(), cause );
+        }
+    }
+
+    /**
+     * @return the number of models served from the cache
+     */
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * @return the number of models that had to be built
+     */
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * @return the number of models currently cached
+     */
+    public synchronized int size()
+    {
+        return projects.size();
+    }
+
+    /**
+     * Log the hit/miss counters at debug level.
+     *
+     * @param log not null
+     */
+    public void logStatistics( Log log )
+    {
+        if ( log.isDebugEnabled() )
+        {
+            synchronized ( this )
+            {
+                log.debug( "MavenProject cache: " + hits + " hits, " + misses + " misses, " + projects.size()
+                    + " cached models" );
+            }
+        }
+    }
+
+    private static String getKey( Artifact artifact, boolean allowStubModel )
+    {
+        return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion()
+            + ( allowStubModel ? ":stub" : "" );
+    }
+}
@@ -79,8 +79,10 @@ public class PluginManagementReport
         PluginManagementRenderer r =
             new PluginManagementRenderer( getLog(), getSink(), locale, getI18N( locale ),
                                           project.getPluginManagement().getPlugins(), project, mavenProjectBuilder,
-                                          artifactFactory, localRepository );
+                                          artifactFactory, localRepository, getMavenProjectCache() );
         r.render();
+
+        getMavenProjectCache().logStatistics( getLog() );
     }
 
     /** {@inheritDoc} */
@@ -128,6 +130,8 @@ public class PluginManagementReport
 
         private final MavenProjectBuilder mavenProjectBuilder;
 
+        private final MavenProjectCache mavenProjectCache;
+
         private final ArtifactFactory artifactFactory;
 
         private final ArtifactRepository localRepository;
@@ -142,10 +146,12 @@ public class PluginManagementReport
          * @param mavenProjectBuilder {@link MavenProjectBuilder}
          * @param artifactFactory {@link ArtifactFactory}
          * @param localRepository {@link ArtifactRepository}
+         * @param mavenProjectCache {@link MavenProjectCache}
          */
         public PluginManagementRenderer( Log log, Sink sink, Locale locale, I18N i18n, List<Plugin> plugins,
                                          MavenProject project, MavenProjectBuilder mavenProjectBuilder,
-                                         ArtifactFactory artifactFactory, ArtifactRepository localRepository )
+                                         ArtifactFactory artifactFactory, ArtifactRepository localRepository,
+                                         MavenProjectCache mavenProjectCache )
         {
             super( sink, i18n, locale );
 
@@ -160,6 +166,8 @@ public class PluginManagementReport
             this.artifactFactory = artifactFactory;
 
             this.localRepository = localRepository;
+
+            this.mavenProjectCache = mavenProjectCache;
         }
 
         @Override
@@ -223,9 +231,9 @@ public class PluginManagementReport
                 }
                 try
                 {
-                    MavenProject pluginProject = mavenProjectBuilder.buildFromRepository( pluginArtifact,
-                                                                                          artifactRepositories,
-                                                                                          localRepository );
+                    MavenProject pluginProject =
+                        mavenProjectCache.buildFromRepository( mavenProjectBuilder, pluginArtifact,
+                                                               artifactRepositories, localRepository, true );
                     tableRow( getPluginRow( pluginProject.getGroupId(), pluginProject.getArtifactId(), pluginProject
                         .getVersion(), pluginProject.getUrl() ) );
                 }
@@ -92,8 +92,10 @@ public class PluginsReport
         PluginsRenderer r =
             new PluginsRenderer( getLog(), getSink(), locale, getI18N( locale ), project.getBuildPlugins(),
                                  project.getReportPlugins(), project, mavenProjectBuilder, artifactFactory,
-                                 localRepository );
+                                 localRepository, getMavenProjectCache() );
         r.render();
+
+        getMavenProjectCache().logStatistics( getLog() );
     }
 
     /** {@inheritDoc} */
@@ -128,6 +130,8 @@ public class PluginsReport
 
         private final MavenProjectBuilder mavenProjectBuilder;
 
+        private final MavenProjectCache mavenProjectCache;
+
         private final ArtifactFactory artifactFactory;
 
         private final ArtifactRepository localRepository;
@@ -143,12 +147,13 @@ public class PluginsReport
          * @param mavenProjectBuilder {@link MavenProjectBuilder}
          * @param artifactFactory {@link ArtifactFactory}
          * @param localRepository {@link ArtifactRepository}
+         * @param mavenProjectCache {@link MavenProjectCache}
          *
          */
         public PluginsRenderer( Log log, Sink sink, Locale locale, I18N i18n, List<Plugin> plugins,
                                 List<ReportPlugin> reports, MavenProject project,
                                 MavenProjectBuilder mavenProjectBuilder, ArtifactFactory artifactFactory,
-                                ArtifactRepository localRepository )
+                                ArtifactRepository localRepository, MavenProjectCache mavenProjectCache )
         {
             super( sink, i18n, locale );
 
@@ -165,6 +170,8 @@ public class PluginsReport
             this.artifactFactory = artifactFactory;
 
             this.localRepository = localRepository;
+
+            this.mavenProjectCache = mavenProjectCache;
         }
 
         @Override
@@ -222,9 +229,9 @@ public class PluginsReport
                 }
                 try
                 {
-                    MavenProject pluginProject = mavenProjectBuilder.buildFromRepository( pluginArtifact,
-                                                                                          artifactRepositories,
-                                                                                          localRepository );
+                    MavenProject pluginProject =
+                        mavenProjectCache.buildFromRepository( mavenProjectBuilder, pluginArtifact,
+                                                               artifactRepositories, localRepository, true );
                     tableRow( getPluginRow( pluginProject.getGroupId(), pluginProject.getArtifactId(), pluginProject
                                             .getVersion(), pluginProject.getUrl() ) );
                 }
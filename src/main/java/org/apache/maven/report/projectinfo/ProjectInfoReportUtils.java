@@ -22,6 +22,7 @@ package org.apache.maven.report.projectinfo;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.Authenticator;
+import java.net.HttpURLConnection;
 import java.net.PasswordAuthentication;
 import java.net.URL;
 import java.net.URLConnection;
@@ -29,7 +30,6 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
-import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
@@ -123,6 +123,22 @@ public class ProjectInfoReportUtils
      */
     public static String getContent( URL url, MavenProject project, Settings settings, String encoding )
         throws IOException
+    {
+        return getContent( url, project, settings, encoding, TIMEOUT );
+    }
+
+    /**
+     * @param url not null
+     * @param project could be null
+     * @param settings not null to handle proxy settings
+     * @param encoding the wanted encoding for the URL input stream. If null, UTF-8 will be used.
+     * @param timeout the connect and read timeout in milliseconds
+     * @return the input stream decoded with the wanted encoding as string
+     * @throws IOException if any
+     */
+    private static String getContent( URL url, MavenProject project, Settings settings, String encoding,
+                                      int timeout )
+        throws IOException
     {
         String scheme = url.getProtocol();
 
@@ -152,58 +168,129 @@ public class ProjectInfoReportUtils
             }
         }
 
-        Proxy proxy = settings.getActiveProxy();
-        if ( proxy != null )
+        setProxy( scheme, settings );
+
+        InputStream in = null;
+        try
         {
-            if ( "http".equals( scheme ) || "https".equals( scheme ) || "ftp".equals( scheme ) )
-            {
-                scheme += ".";
-            }
-            else
-            {
-                scheme = "";
-            }
+            URLConnection conn = getURLConnection( url, project, settings, timeout );
+            in = conn.getInputStream();
 
-            String host = proxy.getHost();
-            if ( !StringUtils.isEmpty( host ) )
+            final String string = IOUtil.toString( in, encoding );
+
+            in.close();
+            in = null;
+
+            return string;
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    /**
+     * Get the input stream from a URL, using a persistent cache for the HTTP and HTTPS URLs. A cached content is used
+     * without request while it is fresh or when Maven is offline, otherwise it is revalidated with a conditional
+     * request. If the server can not be reached, the cached content is used.
+     *
+     * @param url not null
+     * @param project could be null
+     * @param settings not null to handle proxy settings
+     * @param encoding the wanted encoding for the URL input stream. If null, UTF-8 will be used.
+     * @param cache the content cache, could be null to disable caching
+     * @return the input stream decoded with the wanted encoding as string
+     * @throws IOException if any
+     * @since 2.10
+     */
+    public static String getContent( URL url, MavenProject project, Settings settings, String encoding,
+                                     ContentCache cache )
+        throws IOException
+    {
+        return getContent( url, project, settings, encoding, cache, TIMEOUT );
+    }
+
+    /**
+     * Same as {@link #getContent(URL, MavenProject, Settings, String, ContentCache)}, with a specific timeout.
+     *
+     * @param url not null
+     * @param project could be null
+     * @param settings not null to handle proxy settings
+     * @param encoding the wanted encoding for the URL input stream. If null, UTF-8 will be used.
+     * @param cache the content cache, could be null to disable caching
+     * @param timeout the connect and read timeout in milliseconds, the default timeout is used if not positive
+     * @return the input stream decoded with the wanted encoding as string
+     * @throws IOException if any
+     * @since 2.10
+     */
+    public static String getContent( URL url, MavenProject project, Settings settings, String encoding,
+                                     ContentCache cache, int timeout )
+        throws IOException
+    {
+        String scheme = url.getProtocol();
+        if ( cache == null || !( "http".equals( scheme ) || "https".equals( scheme ) ) )
+        {
+            return getContent( url, project, settings, encoding, timeout );
+        }
+
+        if ( StringUtils.isEmpty( encoding ) )
+        {
+            encoding = DEFAULT_ENCODING;
+        }
+
+        ContentCache.Entry entry = cache.get( url );
+        if ( entry != null && ( settings.isOffline() || cache.isFresh( entry ) ) )
+        {
+            return new String( entry.getContent(), encoding );
+        }
+
+        if ( settings.isOffline() )
+        {
+            throw new IOException( "The content of " + url + " is not cached and Maven is offline." );
+        }
+
+        setProxy( scheme, settings );
+
+        InputStream in = null;
+        try
+        {
+            URLConnection conn = getURLConnection( url, project, settings, timeout );
+            if ( entry != null && conn instanceof HttpURLConnection )
             {
-                Properties p = System.getProperties();
-                p.setProperty( scheme + "proxySet", "true" );
-                p.setProperty( scheme + "proxyHost", host );
-                p.setProperty( scheme + "proxyPort", String.valueOf( proxy.getPort() ) );
-                if ( !StringUtils.isEmpty( proxy.getNonProxyHosts() ) )
+                if ( entry.getEtag() != null )
                 {
-                    p.setProperty( scheme + "nonProxyHosts", proxy.getNonProxyHosts() );
+                    conn.setRequestProperty( "If-None-Match", entry.getEtag() );
+                }
+                if ( entry.getLastModified() != null )
+                {
+                    conn.setRequestProperty( "If-Modified-Since", entry.getLastModified() );
                 }
 
-                final String userName = proxy.getUsername();
-                if ( !StringUtils.isEmpty( userName ) )
+                if ( ( (HttpURLConnection) conn ).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED )
                 {
-                    final String pwd = StringUtils.isEmpty( proxy.getPassword() ) ? "" : proxy.getPassword();
-                    Authenticator.setDefault( new Authenticator()
-                    {
-                        /** {@inheritDoc} */
-                        protected PasswordAuthentication getPasswordAuthentication()
-                        {
-                            return new PasswordAuthentication( userName, pwd.toCharArray() );
-                        }
-                    } );
+                    ( (HttpURLConnection) conn ).disconnect();
+                    return new String( cache.revalidate( url, entry ).getContent(), encoding );
                 }
             }
-        }
 
-        InputStream in = null;
-        try
-        {
-            URLConnection conn = getURLConnection( url, project, settings );
             in = conn.getInputStream();
-
-            final String string = IOUtil.toString( in, encoding );
-
+            byte[] content = IOUtil.toByteArray( in );
             in.close();
             in = null;
 
-            return string;
+            cache.put( url, conn.getHeaderField( "ETag" ), conn.getHeaderField( "Last-Modified" ), content );
+
+            return new String( content, encoding );
+        }
+        catch ( IOException e )
+        {
+            if ( entry == null )
+            {
+                throw e;
+            }
+
+            // stale content is better than no content
+            return new String( entry.getContent(), encoding );
         }
         finally
         {
@@ -224,6 +311,24 @@ public class ProjectInfoReportUtils
                                          MavenProjectBuilder mavenProjectBuilder,
                                          List<ArtifactRepository> remoteRepositories, ArtifactRepository localRepository )
     // CHECKSTYLE_ON: LineLength
+    {
+        return getArtifactUrl( factory, artifact, mavenProjectBuilder, remoteRepositories, localRepository, null );
+    }
+
+    /**
+     * @param factory not null
+     * @param artifact not null
+     * @param mavenProjectBuilder not null
+     * @param remoteRepositories not null
+     * @param localRepository not null
+     * @param mavenProjectCache the cache used to build the artifact project, could be null to build it without cache
+     * @return the artifact url or null if an error occurred.
+     * @since 2.10
+     */
+    public static String getArtifactUrl( ArtifactFactory factory, Artifact artifact,
+                                         MavenProjectBuilder mavenProjectBuilder,
+                                         List<ArtifactRepository> remoteRepositories,
+                                         ArtifactRepository localRepository, MavenProjectCache mavenProjectCache )
     {
         if ( Artifact.SCOPE_SYSTEM.equals( artifact.getScope() ) )
         {
@@ -239,10 +344,17 @@ public class ProjectInfoReportUtils
         }
         try
         {
-            MavenProject pluginProject =
-                mavenProjectBuilder.buildFromRepository( copyArtifact,
-                                                         remoteRepositories == null ? Collections.EMPTY_LIST
-                                                                         : remoteRepositories, localRepository );
+            MavenProject pluginProject;
+            if ( mavenProjectCache != null )
+            {
+                pluginProject = mavenProjectCache.buildFromRepository( mavenProjectBuilder, copyArtifact,
+                                                                       remoteRepositories, localRepository, true );
+            }
+            else
+            {
+                pluginProject = mavenProjectBuilder.buildFromRepository( copyArtifact, remoteRepositories,
+                                                                         localRepository, true );
+            }
 
             if ( isArtifactUrlValid( pluginProject.getUrl() ) )
             {
@@ -287,19 +399,69 @@ public class ProjectInfoReportUtils
         return URL_VALIDATOR.isValid( url );
     }
 
+    /**
+     * Set the proxy system properties from the active proxy of the settings.
+     *
+     * @param scheme the protocol of the URL to get, not null
+     * @param settings not null
+     */
+    private static void setProxy( String scheme, Settings settings )
+    {
+        Proxy proxy = settings.getActiveProxy();
+        if ( proxy != null )
+        {
+            if ( "http".equals( scheme ) || "https".equals( scheme ) || "ftp".equals( scheme ) )
+            {
+                scheme += ".";
+            }
+            else
+            {
+                scheme = "";
+            }
+
+            String host = proxy.getHost();
+            if ( !StringUtils.isEmpty( host ) )
+            {
+                Properties p = System.getProperties();
+                p.setProperty( scheme + "proxySet", "true" );
+                p.setProperty( scheme + "proxyHost", host );
+                p.setProperty( scheme + "proxyPort", String.valueOf( proxy.getPort() ) );
+                if ( !StringUtils.isEmpty( proxy.getNonProxyHosts() ) )
+                {
+                    p.setProperty( scheme + "nonProxyHosts", proxy.getNonProxyHosts() );
+                }
+
+                final String userName = proxy.getUsername();
+                if ( !StringUtils.isEmpty( userName ) )
+                {
+                    final String pwd = StringUtils.isEmpty( proxy.getPassword() ) ? "" : proxy.getPassword();
+                    Authenticator.setDefault( new Authenticator()
+                    {
+                        /** {@inheritDoc} */
+                        protected PasswordAuthentication getPasswordAuthentication()
+                        {
+                            return new PasswordAuthentication( userName, pwd.toCharArray() );
+                        }
+                    } );
+                }
+            }
+        }
+    }
+
     /**
      * @param url not null
      * @param project not null
      * @param settings not null
+     * @param timeout the connect and read timeout in milliseconds, the default timeout is used if not positive
      * @return the url connection with auth if required. Don't check the certificate if SSL scheme.
      * @throws IOException if any
      */
-    private static URLConnection getURLConnection( URL url, MavenProject project, Settings settings )
+    private static URLConnection getURLConnection( URL url, MavenProject project, Settings settings, int timeout )
         throws IOException
     {
         URLConnection conn = url.openConnection();
-        conn.setConnectTimeout( TIMEOUT );
-        conn.setReadTimeout( TIMEOUT );
+        conn.setConnectTimeout( timeout > 0 ? timeout : TIMEOUT );
+        conn.setReadTimeout( timeout > 0 ? timeout : TIMEOUT );
 
         // conn authorization
         //@formatter:off
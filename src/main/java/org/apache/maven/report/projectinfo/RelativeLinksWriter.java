@@ -0,0 +1,355 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer making absolute the relative links of an HTML document in a single pass, for the licenses report.
+ * The <code>href</code> of the anchors and the <code>src</code> of the images matched by
+ * <code>&lt;\s*TAG\s+[^&gt;]*ATTRIBUTE\s*=\s*"([^"]*)"[^&gt;]*&gt;</code> are prefixed by the server URL if they
+ * start with a <code>/</code>, or by the base URL if they do not contain a <code>:</code>.
+ * <p>
+ * Only the text following a <code>&lt;</code> that may start such a tag is buffered, until the tag is complete.
+ * The output is only complete once the writer is closed.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+final class RelativeLinksWriter
+    extends Writer
+{
+    private static final int NO_MATCH = 0;
+
+    private static final int MATCH = 1;
+
+    private static final int NEED_MORE = 2;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer out;
+
+    /** The tag name, in lower case */
+    private final String tag;
+
+    /** The attribute name, in lower case */
+    private final String attribute;
+
+    private final String baseURL;
+
+    private final String serverURL;
+
+    /** The text not written yet, starting with a <code>&lt;</code> */
+    private final StringBuilder pending = new StringBuilder();
+
+    /** Set by {@link #match(int, boolean)} */
+    private int valueStart;
+
+    /** Set by {@link #match(int, boolean)} */
+    private int valueEnd;
+
+    /** Set by {@link #match(int, boolean)} */
+    private int matchEnd;
+
+    private RelativeLinksWriter( Writer out, String tag, String attribute, String baseURL, String serverURL )
+    {
+        this.out = out;
+        this.tag = tag;
+        this.attribute = attribute;
+        this.baseURL = baseURL;
+        this.serverURL = serverURL;
+    }
+
+    /**
+     * @param out the writer receiving the document with absolute links, closed with the returned writer
+     * @param baseURL the URL of the directory of the document, not null
+     * @return a writer rewriting the links of the anchors then of the images
+     */
+    static Writer create( Writer out, String baseURL )
+    {
+        String url = baseURL;
+        if ( !url.endsWith( "/" ) )
+        {
+            url += "/";
+        }
+
+        String serverURL = url.substring( 0, url.indexOf( '/', url.indexOf( "//" ) + 2 ) );
+
+        return new RelativeLinksWriter( new RelativeLinksWriter( out, "img", "src", url, serverURL ), "a", "href",
+                                        url, serverURL );
+    }
+
+    /** {@inheritDoc} */
+    public void write( char[] cbuf, int off, int len )
+        throws IOException
+    {
+        if ( pending.length() == 0 )
+        {
+            int end = off + len;
+            int start = off;
+            while ( start < end && cbuf[start] != '<' )
+            {
+                start++;
+            }
+            out.write( cbuf, off, start - off );
+            pending.append( cbuf, start, end - start );
+        }
+        else
+        {
+            pending.append( cbuf, off, len );
+        }
+
+        process( false );
+    }
+
+    /**
+     * Write a part of a string, by chunks so that a large string is not copied.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void write( String str, int off, int len )
+        throws IOException
+    {
+        char[] buffer = new char[Math.min( len, BUFFER_SIZE )];
+        for ( int i = off, end = off + len; i < end; i += buffer.length )
+        {
+            int n = Math.min( buffer.length, end - i );
+            str.getChars( i, i + n, buffer, 0 );
+            write( buffer, 0, n );
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void flush()
+        throws IOException
+    {
+        out.flush();
+    }
+
+    /**
+     * Write the pending text, then close the underlying writer.
+     *
+     * @throws IOException if any
+     */
+    public void close()
+        throws IOException
+    {
+        process( true );
+        out.close();
+    }
+
+    /**
+     * Write the pending text, up to the first tag that can not be decided yet.
+     *
+     * @param eof <code>true</code> if no more text will be written
+     * @throws IOException if any
+     */
+    private void process( boolean eof )
+        throws IOException
+    {
+        int pos = 0;
+        while ( pos < pending.length() )
+        {
+            int result = match( pos, eof );
+            if ( result == NEED_MORE )
+            {
+                break;
+            }
+
+            int next;
+            if ( result == MATCH )
+            {
+                write( pos, valueStart );
+                if ( valueEnd > valueStart && pending.charAt( valueStart ) == '/' )
+                {
+                    // root link
+                    out.write( serverURL );
+                }
+                else if ( indexOf( ':', valueStart, valueEnd ) < 0 )
+                {
+                    // relative link
+                    out.write( baseURL );
+                }
+                next = matchEnd;
+            }
+            else
+            {
+                next = pos + 1;
+            }
+
+            int tagStart = indexOf( '<', next, pending.length() );
+            if ( tagStart < 0 )
+            {
+                tagStart = pending.length();
+            }
+            write( result == MATCH ? valueStart : pos, tagStart );
+            pos = tagStart;
+        }
+
+        pending.delete( 0, pos );
+    }
+
+    /**
+     * @param p the position of a <code>&lt;</code> in the pending text
+     * @param eof <code>true</code> if no more text will be written
+     * @return {@link #MATCH} with the value and match positions set, {@link #NO_MATCH} or {@link #NEED_MORE}
+     */
+    private int match( int p, boolean eof )
+    {
+        int n = pending.length();
+        int i = p + 1;
+        while ( i < n && isSpace( pending.charAt( i ) ) )
+        {
+            i++;
+        }
+
+        for ( int k = 0; k < tag.length(); k++, i++ )
+        {
+            if ( i >= n )
+            {
+                return eof ? NO_MATCH : NEED_MORE;
+            }
+            if ( !equalsIgnoreCase( pending.charAt( i ), tag.charAt( k ) ) )
+            {
+                return NO_MATCH;
+            }
+        }
+
+        if ( i >= n )
+        {
+            return eof ? NO_MATCH : NEED_MORE;
+        }
+        if ( !isSpace( pending.charAt( i ) ) )
+        {
+            return NO_MATCH;
+        }
+
+        int regionStart = i + 1;
+        int firstGt = indexOf( '>', regionStart, n );
+        if ( firstGt < 0 )
+        {
+            // at the end of the text, there is no '>' to close the tag
+            return eof ? NO_MATCH : NEED_MORE;
+        }
+
+        // like the greedy [^>]*, the last attribute before the first '>' is tried first
+        for ( int q = firstGt - attribute.length(); q >= regionStart; q-- )
+        {
+            if ( !regionMatches( q, attribute ) )
+            {
+                continue;
+            }
+
+            int j = skipSpaces( q + attribute.length(), firstGt );
+            if ( j >= firstGt || pending.charAt( j ) != '=' )
+            {
+                continue;
+            }
+            j = skipSpaces( j + 1, firstGt );
+            if ( j >= firstGt || pending.charAt( j ) != '"' )
+            {
+                continue;
+            }
+
+            int closingQuote = indexOf( '"', j + 1, n );
+            int end = ( closingQuote < 0 ) ? -1 : indexOf( '>', closingQuote + 1, n );
+            if ( end < 0 )
+            {
+                if ( eof )
+                {
+                    continue;
+                }
+                return NEED_MORE;
+            }
+
+            valueStart = j + 1;
+            valueEnd = closingQuote;
+            matchEnd = end + 1;
+            return MATCH;
+        }
+
+        return NO_MATCH;
+    }
+
+    private void write( int start, int end )
+        throws IOException
+    {
+        if ( end > start )
+        {
+            out.write( pending.substring( start, end ) );
+        }
+    }
+
+    private boolean regionMatches( int start, String lowerCase )
+    {
+        for ( int k = 0; k < lowerCase.length(); k++ )
+        {
+            if ( !equalsIgnoreCase( pending.charAt( start + k ), lowerCase.charAt( k ) ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipSpaces( int start, int end )
+    {
+        int i = start;
+        while ( i < end && isSpace( pending.charAt( i ) ) )
+        {
+            i++;
+        }
+        return i;
+    }
+
+    private int indexOf( char c, int start, int end )
+    {
+        for ( int i = start; i < end; i++ )
+        {
+            if ( pending.charAt( i ) == c )
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param c any character
+     * @param lowerCase an ASCII lower case letter
+     * @return <code>true</code> if the character is the letter in lower or upper case
+     */
+    private static boolean equalsIgnoreCase( char c, char lowerCase )
+    {
+        return c == lowerCase || c == (char) ( lowerCase - 'a' + 'A' );
+    }
+
+    /**
+     * @param c any character
+     * @return <code>true</code> if the character is matched by <code>\s</code>
+     */
+    private static boolean isSpace( char c )
+    {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
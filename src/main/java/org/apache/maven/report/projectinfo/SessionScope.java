@@ -0,0 +1,144 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds values that should be shared by all report executions of one build session, for instance between the
+ * modules of a reactor build. The session is identified by a key object compared by identity, typically the
+ * <code>reactorProjects</code> list. The values of a session are only weakly reachable from this class: they are
+ * dropped once the key object of the session is garbage collected.
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public final class SessionScope
+{
+    /**
+     * Creates the value stored in the session scope on first access.
+     *
+     * @param <T> the value type
+     */
+    public interface Factory<T>
+    {
+        /**
+         * @return the new value, not null
+         */
+        T create();
+    }
+
+    private static final ReferenceQueue<Object> STALE_SESSIONS = new ReferenceQueue<Object>();
+
+    private static final Map<SessionReference, Map<String, Object>> SESSIONS =
+        new HashMap<SessionReference, Map<String, Object>>();
+
+    private SessionScope()
+    {
+        // no op
+    }
+
+    /**
+     * @param session the object identifying the build session, not null
+     * @param key the name of the value, not null
+     * @param factory used to create the value if it does not exist yet in the session, not null
+     * @param <T> the value type
+     * @return the value bound to the given session and key
+     */
+    @SuppressWarnings( "unchecked" )
+    public static synchronized <T> T get( Object session, String key, Factory<T> factory )
+    {
+        expungeStaleSessions();
+
+        Map<String, Object> values = SESSIONS.get( new SessionReference( session, null ) );
+        if ( values == null )
+        {
+            values = new HashMap<String, Object>();
+            SESSIONS.put( new SessionReference( session, STALE_SESSIONS ), values );
+        }
+
+        T value = (T) values.get( key );
+        if ( value == null )
+        {
+            value = factory.create();
+            values.put( key, value );
+        }
+
+        return value;
+    }
+
+    /**
+     * @return the number of sessions whose values are still held
+     */
+    static synchronized int size()
+    {
+        expungeStaleSessions();
+
+        return SESSIONS.size();
+    }
+
+    private static void expungeStaleSessions()
+    {
+        for ( Reference<?> stale = STALE_SESSIONS.poll(); stale != null; stale = STALE_SESSIONS.poll() )
+        {
+            SESSIONS.remove( stale );
+        }
+    }
+
+    /**
+     * A weak reference to the object identifying a session, compared by identity of the referent.
+     */
+    private static final class SessionReference
+        extends WeakReference<Object>
+    {
+        private final int hash;
+
+        SessionReference( Object session, ReferenceQueue<Object> queue )
+        {
+            super( session, queue );
+            this.hash = System.identityHashCode( session );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals( Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+            if ( !( obj instanceof SessionReference ) )
+            {
+                return false;
+            }
+            Object session = get();
+            return session != null && session == ( (SessionReference) obj ).get();
+        }
+    }
+}
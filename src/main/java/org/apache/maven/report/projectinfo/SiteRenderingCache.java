@@ -0,0 +1,214 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.doxia.site.decoration.DecorationModel;
+import org.apache.maven.doxia.siterenderer.Renderer;
+import org.apache.maven.doxia.siterenderer.SiteRenderingContext;
+import org.apache.maven.doxia.tools.SiteTool;
+import org.apache.maven.doxia.tools.SiteToolException;
+import org.codehaus.plexus.util.DirectoryScanner;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * Caches the work done to render a report outside of a site generation, i.e. when a report goal is run directly:
+ * the resolution of the default skin, the inspection of the skin jar and the copy of the site resources.
+ * One instance is shared by all the reports of a build session, see {@link #getInstance(Object)}.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class SiteRenderingCache
+{
+    private Artifact defaultSkinArtifact;
+
+    /** The contexts created by the renderer, by skin file, only used as templates */
+    private final Map<File, SiteRenderingContext> skinContexts = new HashMap<File, SiteRenderingContext>();
+
+    /** The skin or resources directories already copied, by output directory */
+    private final Set<String> copiedResources = new HashSet<String>();
+
+    /**
+     * @param session the object identifying the build session, not null
+     * @return the cache shared by the given build session
+     * @see SessionScope
+     */
+    public static SiteRenderingCache getInstance( Object session )
+    {
+        return SessionScope.get( session, SiteRenderingCache.class.getName(),
+                                 new SessionScope.Factory<SiteRenderingCache>()
+                                 {
+                                     public SiteRenderingCache create()
+                                     {
+                                         return new SiteRenderingCache();
+                                     }
+                                 } );
+    }
+
+    /**
+     * @param siteTool not null
+     * @param localRepository not null
+     * @param remoteArtifactRepositories not null
+     * @return the default skin artifact, resolved once per session
+     * @throws SiteToolException if any
+     * @see SiteTool#getDefaultSkinArtifact(ArtifactRepository, List)
+     */
+    public synchronized Artifact getDefaultSkinArtifact( SiteTool siteTool, ArtifactRepository localRepository,
+                                                         List<ArtifactRepository> remoteArtifactRepositories )
+        throws SiteToolException
+    {
+        if ( defaultSkinArtifact == null )
+        {
+            defaultSkinArtifact = siteTool.getDefaultSkinArtifact( localRepository, remoteArtifactRepositories );
+        }
+        return defaultSkinArtifact;
+    }
+
+    /**
+     * Same as {@link Renderer#createContextForSkin(File, Map, DecorationModel, String, Locale)}, but the skin jar
+     * is only inspected the first time.
+     *
+     * @param siteRenderer not null
+     * @param skinFile not null
+     * @param attributes not null
+     * @param decoration not null
+     * @param defaultWindowTitle not null
+     * @param locale not null
+     * @return a new site rendering context
+     * @throws IOException if any
+     */
+    public SiteRenderingContext createContextForSkin( Renderer siteRenderer, File skinFile,
+                                                      Map<String, ?> attributes, DecorationModel decoration,
+                                                      String defaultWindowTitle, Locale locale )
+        throws IOException
+    {
+        SiteRenderingContext skinContext;
+        synchronized ( this )
+        {
+            skinContext = skinContexts.get( skinFile );
+            if ( skinContext == null )
+            {
+                skinContext =
+                    siteRenderer.createContextForSkin( skinFile, Collections.<String, Object>emptyMap(),
+                                                       new DecorationModel(), defaultWindowTitle, locale );
+                skinContexts.put( skinFile, skinContext );
+            }
+        }
+
+        SiteRenderingContext context = new SiteRenderingContext();
+        context.setTemplateName( skinContext.getTemplateName() );
+        context.setTemplateClassLoader( skinContext.getTemplateClassLoader() );
+        context.setUsingDefaultTemplate( skinContext.isUsingDefaultTemplate() );
+        context.setSkinJarFile( skinFile );
+        context.setTemplateProperties( attributes );
+        context.setLocale( locale );
+        context.setDecoration( decoration );
+        context.setDefaultWindowTitle( defaultWindowTitle );
+        return context;
+    }
+
+    /**
+     * Same as {@link Renderer#copyResources(SiteRenderingContext, File, File)}, but the skin resources are copied
+     * once per session and output directory, and the files of the resources directory are only copied if their
+     * size or last modification time changed.
+     *
+     * @param siteRenderer not null
+     * @param siteContext not null
+     * @param resourcesDirectory could be null
+     * @param outputDirectory not null
+     * @throws IOException if any
+     */
+    public void copyResources( Renderer siteRenderer, SiteRenderingContext siteContext, File resourcesDirectory,
+                               File outputDirectory )
+        throws IOException
+    {
+        if ( markCopied( siteContext.getSkinJarFile(), outputDirectory ) )
+        {
+            siteRenderer.copyResources( siteContext, null, outputDirectory );
+        }
+
+        if ( resourcesDirectory != null && resourcesDirectory.isDirectory()
+            && markCopied( resourcesDirectory, outputDirectory ) )
+        {
+            copyDirectory( resourcesDirectory, outputDirectory );
+        }
+    }
+
+    /**
+     * Copy the files of a directory, except the ones with the same size and last modification time in the
+     * destination directory.
+     *
+     * @param source not null
+     * @param destination not null
+     * @return the number of copied files
+     * @throws IOException if any
+     */
+    static int copyDirectory( File source, File destination )
+        throws IOException
+    {
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setIncludes( new String[] { "**/**" } );
+        scanner.addDefaultExcludes();
+        scanner.setBasedir( source );
+        scanner.scan();
+
+        int copied = 0;
+        for ( String name : scanner.getIncludedFiles() )
+        {
+            File sourceFile = new File( source, name );
+            File destinationFile = new File( destination, name );
+
+            if ( destinationFile.isFile() && destinationFile.length() == sourceFile.length()
+                && destinationFile.lastModified() == sourceFile.lastModified() )
+            {
+                continue;
+            }
+
+            FileUtils.copyFile( sourceFile, destinationFile );
+            destinationFile.setLastModified( sourceFile.lastModified() );
+            copied++;
+        }
+        return copied;
+    }
+
+    /**
+     * @return <code>true</code> if the given resources were not already copied to the given output directory
+     */
+    private synchronized boolean markCopied( File resources, File outputDirectory )
+    {
+        return copiedResources.add( resources.getAbsolutePath() + File.pathSeparator
+            + outputDirectory.getAbsolutePath() );
+    }
+}
@@ -0,0 +1,107 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+import org.apache.maven.shared.dependency.tree.filter.DependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.traversal.DependencyNodeVisitor;
+
+/**
+ * A dependency node visitor that forwards to another visitor only the nodes accepted by a filter and their ancestors,
+ * in a single walk of the tree.
+ * <p>
+ * The ancestors of a node are forwarded when the first accepted node below them is visited, so the forwarded nodes
+ * are visited in the same order as in the whole tree. The delegate visitor is expected to visit all the children of
+ * the nodes, as {@link org.apache.maven.shared.dependency.tree.traversal.BuildingDependencyNodeVisitor} does.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class AncestorOrSelfFilteringDependencyNodeVisitor
+    implements DependencyNodeVisitor
+{
+    /**
+     * The visitor to forward the nodes to.
+     */
+    private final DependencyNodeVisitor visitor;
+
+    /**
+     * The filter of the nodes to forward with their ancestors.
+     */
+    private final DependencyNodeFilter filter;
+
+    /**
+     * The nodes visited and not ended yet, from the root.
+     */
+    private final List<DependencyNode> path = new ArrayList<DependencyNode>();
+
+    /**
+     * The number of nodes of the path already forwarded, always the first ones.
+     */
+    private int forwarded;
+
+    /**
+     * @param visitor the visitor to forward the nodes to, not null
+     * @param filter the filter of the nodes to forward with their ancestors, not null
+     */
+    public AncestorOrSelfFilteringDependencyNodeVisitor( DependencyNodeVisitor visitor, DependencyNodeFilter filter )
+    {
+        this.visitor = visitor;
+        this.filter = filter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean visit( DependencyNode node )
+    {
+        path.add( node );
+
+        if ( filter.accept( node ) )
+        {
+            for ( ; forwarded < path.size(); forwarded++ )
+            {
+                visitor.visit( path.get( forwarded ) );
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean endVisit( DependencyNode node )
+    {
+        if ( forwarded == path.size() )
+        {
+            visitor.endVisit( node );
+            forwarded--;
+        }
+
+        path.remove( path.size() - 1 );
+
+        return true;
+    }
+}
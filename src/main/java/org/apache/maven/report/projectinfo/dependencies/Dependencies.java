@@ -21,10 +21,23 @@ package org.apache.maven.report.projectinfo.dependencies;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 
 import org.apache.maven.artifact.Artifact;
@@ -48,6 +61,10 @@ public class Dependencies
 
     private final JarClassesAnalysis classesAnalyzer;
 
+    private final JarDetailsCache jarDetailsCache;
+
+    private final boolean fastJarScan;
+
     /**
      * @since 2.1
      */
@@ -74,9 +91,16 @@ public class Dependencies
     private Map<String, List<Artifact>> transitiveDependenciesByScope;
 
     /**
+     * Concurrent as jars could be analyzed by several threads, see {@link #analyzeJarDependencies(Collection, int)}.
+     *
      * @since 2.1
      */
-    private Map<String, JarData> dependencyDetails;
+    private final Map<String, JarData> dependencyDetails = new ConcurrentHashMap<String, JarData>();
+
+    /**
+     * @since 2.10
+     */
+    private final Map<String, JarDetails> jarDetails = new ConcurrentHashMap<String, JarDetails>();
 
     /**
      * Default constructor
@@ -86,10 +110,26 @@ public class Dependencies
      * @param classesAnalyzer the JarClassesAnalysis.
      */
     public Dependencies( MavenProject project, DependencyNode dependencyTreeNode, JarClassesAnalysis classesAnalyzer )
+    {
+        this( project, dependencyTreeNode, classesAnalyzer, null, false );
+    }
+
+    /**
+     * @param project the MavenProject.
+     * @param dependencyTreeNode the DependencyNode.
+     * @param classesAnalyzer the JarClassesAnalysis.
+     * @param jarDetailsCache the persistent cache of jar details, could be null.
+     * @param fastJarScan <code>true</code> to compute the jar details with the {@link FastJarScanner}.
+     * @since 2.10
+     */
+    public Dependencies( MavenProject project, DependencyNode dependencyTreeNode, JarClassesAnalysis classesAnalyzer,
+                         JarDetailsCache jarDetailsCache, boolean fastJarScan )
     {
         this.project = project;
         this.dependencyNode = dependencyTreeNode;
         this.classesAnalyzer = classesAnalyzer;
+        this.jarDetailsCache = jarDetailsCache;
+        this.fastJarScan = fastJarScan;
     }
 
     /**
@@ -139,8 +179,16 @@ public class Dependencies
             return projectTransitiveDependencies;
         }
 
-        projectTransitiveDependencies = new ArrayList<Artifact>( getAllDependencies() );
-        projectTransitiveDependencies.removeAll( getProjectDependencies() );
+        Set<Artifact> directDependencies = new HashSet<Artifact>( getProjectDependencies() );
+
+        projectTransitiveDependencies = new ArrayList<Artifact>();
+        for ( Artifact artifact : getAllDependencies() )
+        {
+            if ( !directDependencies.contains( artifact ) )
+            {
+                projectTransitiveDependencies.add( artifact );
+            }
+        }
 
         return projectTransitiveDependencies;
     }
@@ -155,9 +203,12 @@ public class Dependencies
             return allDependencies;
         }
 
-        allDependencies = new ArrayList<Artifact>();
+        // insertion ordered set to keep the tree order while checking duplicates in constant time
+        Set<Artifact> artifacts = new LinkedHashSet<Artifact>();
+
+        addAllChildrenDependencies( dependencyNode, artifacts );
 
-        addAllChildrenDependencies( dependencyNode );
+        allDependencies = new ArrayList<Artifact>( artifacts );
 
         return allDependencies;
     }
@@ -175,72 +226,170 @@ public class Dependencies
     {
         if ( isTransitively )
         {
-            if ( transitiveDependenciesByScope != null )
+            if ( transitiveDependenciesByScope == null )
             {
-                return transitiveDependenciesByScope;
+                transitiveDependenciesByScope = groupByScope( getTransitiveDependencies() );
             }
 
-            transitiveDependenciesByScope = new HashMap<String, List<Artifact>>();
-            for ( Artifact artifact : getTransitiveDependencies() )
-            {
-                List<Artifact> multiValue = transitiveDependenciesByScope.get( artifact.getScope() );
-                if ( multiValue == null )
-                {
-                    multiValue = new ArrayList<Artifact>();
-                }
+            return transitiveDependenciesByScope;
+        }
 
-                if ( !multiValue.contains( artifact ) )
-                {
-                    multiValue.add( artifact );
-                }
-                transitiveDependenciesByScope.put( artifact.getScope(), multiValue );
-            }
+        if ( dependenciesByScope == null )
+        {
+            dependenciesByScope = groupByScope( getProjectDependencies() );
+        }
 
-            return transitiveDependenciesByScope;
+        return dependenciesByScope;
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @return the jardata object from the artifact
+     * @throws IOException if any
+     */
+    public JarData getJarDependencyDetails( Artifact artifact )
+        throws IOException
+    {
+        JarData jarData = dependencyDetails.get( artifact.getId() );
+        if ( jarData != null )
+        {
+            return jarData;
         }
 
-        if ( dependenciesByScope != null )
+        jarData = analyzeJar( artifact );
+
+        dependencyDetails.put( artifact.getId(), jarData );
+
+        return jarData;
+    }
+
+    /**
+     * Same as {@link #getJarDependencyDetails(Artifact)} but only keeps the figures of the jar, which could then be
+     * read from or stored to the persistent {@link JarDetailsCache}.
+     *
+     * @param artifact the artifact.
+     * @return the details of the artifact file
+     * @throws IOException if any
+     * @since 2.10
+     */
+    public JarDetails getJarDetails( Artifact artifact )
+        throws IOException
+    {
+        JarDetails details = jarDetails.get( artifact.getId() );
+        if ( details != null )
         {
-            return dependenciesByScope;
+            return details;
         }
 
-        dependenciesByScope = new HashMap<String, List<Artifact>>();
-        for ( Artifact artifact : getProjectDependencies() )
+        File file = getFile( artifact );
+        boolean cacheable = jarDetailsCache != null && file.isFile();
+
+        if ( cacheable )
         {
-            List<Artifact> multiValue = dependenciesByScope.get( artifact.getScope() );
-            if ( multiValue == null )
+            details = jarDetailsCache.get( file, fastJarScan );
+        }
+
+        if ( details == null )
+        {
+            details = computeJarDetails( artifact, file );
+
+            if ( cacheable )
             {
-                multiValue = new ArrayList<Artifact>();
+                jarDetailsCache.put( file, fastJarScan, details );
             }
+        }
+
+        jarDetails.put( artifact.getId(), details );
+
+        return details;
+    }
 
-            if ( !multiValue.contains( artifact ) )
+    /**
+     * Analyze the jars of the given artifacts on a pool of threads, so that the following calls to
+     * {@link #getJarDetails(Artifact)} return the already computed details. Failures are not kept: they
+     * will be reported again by {@link #getJarDetails(Artifact)}.
+     *
+     * @param artifacts the artifacts with a jar file, not null
+     * @param threads the maximum number of jars analyzed concurrently
+     * @since 2.10
+     */
+    public void analyzeJarDependencies( Collection<Artifact> artifacts, int threads )
+    {
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<JarDetails>> futures = new ArrayList<Future<JarDetails>>( artifacts.size() );
+            for ( final Artifact artifact : artifacts )
             {
-                multiValue.add( artifact );
+                futures.add( executor.submit( new Callable<JarDetails>()
+                {
+                    public JarDetails call()
+                        throws IOException
+                    {
+                        return getJarDetails( artifact );
+                    }
+                } ) );
             }
-            dependenciesByScope.put( artifact.getScope(), multiValue );
-        }
 
-        return dependenciesByScope;
+            for ( Future<JarDetails> future : futures )
+            {
+                try
+                {
+                    future.get();
+                }
+                catch ( ExecutionException e )
+                {
+                    // ignore, see getJarDetails()
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
     }
 
+    // ----------------------------------------------------------------------
+    // Private methods
+    // ----------------------------------------------------------------------
+
     /**
      * @param artifact the artifact.
-     * @return the jardata object from the artifact
+     * @param file the file of the artifact.
+     * @return the details of the artifact file, computed by the {@link FastJarScanner} if enabled
      * @throws IOException if any
      */
-    public JarData getJarDependencyDetails( Artifact artifact )
+    private JarDetails computeJarDetails( Artifact artifact, File file )
         throws IOException
     {
-        if ( dependencyDetails == null )
+        if ( fastJarScan && file.isFile() )
         {
-            dependencyDetails = new HashMap<String, JarData>();
+            try
+            {
+                return FastJarScanner.scan( file );
+            }
+            catch ( IOException e )
+            {
+                // fall back to the full analysis, which reports the error if the jar is really invalid
+            }
         }
 
-        JarData jarData = dependencyDetails.get( artifact.getId() );
-        if ( jarData != null )
-        {
-            return jarData;
-        }
+        return JarDetails.of( analyzeJar( artifact ) );
+    }
+
+    /**
+     * @param artifact the artifact.
+     * @return the jardata object from the artifact file
+     * @throws IOException if any
+     */
+    private JarData analyzeJar( Artifact artifact )
+        throws IOException
+    {
+        JarData jarData;
 
         File file = getFile( artifact );
 
@@ -262,28 +411,62 @@ public class Dependencies
             {
                 jarAnalyzer.closeQuietly();
             }
-            
+
             jarData = jarAnalyzer.getJarData();
         }
 
-        dependencyDetails.put( artifact.getId(), jarData );
-    
         return jarData;
     }
 
-    // ----------------------------------------------------------------------
-    // Private methods
-    // ----------------------------------------------------------------------
+    /**
+     * @param artifacts not null
+     * @return a map with the artifact scopes as keys and the distinct artifacts as values, in the given order.
+     */
+    private static Map<String, List<Artifact>> groupByScope( Collection<Artifact> artifacts )
+    {
+        Map<String, Set<Artifact>> artifactsByScope = new HashMap<String, Set<Artifact>>();
+        for ( Artifact artifact : artifacts )
+        {
+            Set<Artifact> multiValue = artifactsByScope.get( artifact.getScope() );
+            if ( multiValue == null )
+            {
+                multiValue = new LinkedHashSet<Artifact>();
+                artifactsByScope.put( artifact.getScope(), multiValue );
+            }
+
+            multiValue.add( artifact );
+        }
+
+        Map<String, List<Artifact>> result = new HashMap<String, List<Artifact>>();
+        for ( Map.Entry<String, Set<Artifact>> entry : artifactsByScope.entrySet() )
+        {
+            result.put( entry.getKey(), new ArrayList<Artifact>( entry.getValue() ) );
+        }
+
+        return result;
+    }
 
     /**
-     * Recursive method to get all dependencies from a given <code>dependencyNode</code>
+     * Get all dependencies below a given <code>dependencyNode</code>, walking the tree without recursion.
      *
      * @param dependencyNode not null
+     * @param artifacts the collected artifacts, not null
      */
-    private void addAllChildrenDependencies( DependencyNode dependencyNode )
+    private void addAllChildrenDependencies( DependencyNode dependencyNode, Set<Artifact> artifacts )
     {
-        for ( DependencyNode subdependencyNode : dependencyNode.getChildren() )
+        // depth first with an explicit stack, so that a deep tree does not overflow the thread stack
+        Deque<Iterator<DependencyNode>> stack = new ArrayDeque<Iterator<DependencyNode>>();
+        stack.push( dependencyNode.getChildren().iterator() );
+        while ( !stack.isEmpty() )
         {
+            Iterator<DependencyNode> children = stack.peek();
+            if ( !children.hasNext() )
+            {
+                stack.pop();
+                continue;
+            }
+
+            DependencyNode subdependencyNode = children.next();
             Artifact artifact = subdependencyNode.getArtifact();
 
             if ( artifact.getGroupId().equals( project.getGroupId() )
@@ -293,12 +476,9 @@ public class Dependencies
                 continue;
             }
 
-            if ( !allDependencies.contains( artifact ) )
-            {
-                allDependencies.add( artifact );
-            }
+            artifacts.add( artifact );
 
-            addAllChildrenDependencies( subdependencyNode );
+            stack.push( subdependencyNode.getChildren().iterator() );
         }
     }
 
@@ -29,6 +29,12 @@ public class DependenciesReportConfiguration
 {
     private boolean dependencyDetailsEnabled;
 
+    private int dependencyDetailsThreads = 1;
+
+    private boolean dependencyTreeLazyDetails;
+
+    private boolean dependencyTreeDeduplicate;
+
     /**
      * @param detailsEnabled whether details is enabled.
      */
@@ -44,4 +50,58 @@ public class DependenciesReportConfiguration
     {
         return dependencyDetailsEnabled;
     }
+
+    /**
+     * @return value of Mojo dependencyDetailsThreads parameter, <code>1</code> by default.
+     * @since 2.10
+     */
+    public int getDependencyDetailsThreads()
+    {
+        return dependencyDetailsThreads;
+    }
+
+    /**
+     * @param detailsThreads the number of threads used to analyze the dependency files.
+     * @since 2.10
+     */
+    public void setDependencyDetailsThreads( int detailsThreads )
+    {
+        this.dependencyDetailsThreads = detailsThreads;
+    }
+
+    /**
+     * @return value of Mojo dependencyTreeLazyDetails parameter.
+     * @since 2.10
+     */
+    public boolean getDependencyTreeLazyDetails()
+    {
+        return dependencyTreeLazyDetails;
+    }
+
+    /**
+     * @param treeLazyDetails whether the details of the dependency tree are loaded on demand.
+     * @since 2.10
+     */
+    public void setDependencyTreeLazyDetails( boolean treeLazyDetails )
+    {
+        this.dependencyTreeLazyDetails = treeLazyDetails;
+    }
+
+    /**
+     * @return value of Mojo dependencyTreeDeduplicate parameter.
+     * @since 2.10
+     */
+    public boolean getDependencyTreeDeduplicate()
+    {
+        return dependencyTreeDeduplicate;
+    }
+
+    /**
+     * @param treeDeduplicate whether the repeated subtrees of the dependency tree are rendered once.
+     * @since 2.10
+     */
+    public void setDependencyTreeDeduplicate( boolean treeDeduplicate )
+    {
+        this.dependencyTreeDeduplicate = treeDeduplicate;
+    }
 }
@@ -21,8 +21,10 @@ package org.apache.maven.report.projectinfo.dependencies;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.shared.dependency.tree.DependencyNode;
@@ -38,7 +40,15 @@ public class DependencyVersionMap
 {
     private boolean uniqueVersions;
 
-    private Map<String, List<DependencyNode>> idsToNode;
+    /**
+     * The visited nodes by groupId then artifactId, so that no key has to be built for each visited node.
+     */
+    private Map<String, Map<String, VersionedNodes>> idsToNode;
+
+    /**
+     * The nodes groups with conflicts, in the order the conflicts were found.
+     */
+    private List<List<DependencyNode>> conflicts;
 
     // ----------------------------------------------------------------------
     // Public methods
@@ -49,11 +59,12 @@ public class DependencyVersionMap
      */
     public DependencyVersionMap()
     {
-        idsToNode = new HashMap<String, List<DependencyNode>>();
+        idsToNode = new HashMap<String, Map<String, VersionedNodes>>();
+        conflicts = new ArrayList<List<DependencyNode>>();
     }
 
     /**
-     * @param uniqueVersions {@link #uniqueVersions}
+     * @param uniqueVersions {@link #uniqueVersions}, to be set before visiting any node.
      */
     public void setUniqueVersions( boolean uniqueVersions )
     {
@@ -65,8 +76,7 @@ public class DependencyVersionMap
      */
     public boolean visit( DependencyNode node )
     {
-        addDependency( node );
-        return !containsConflicts( node );
+        return !addDependency( node ).containsConflicts();
     }
 
     /**
@@ -84,41 +94,39 @@ public class DependencyVersionMap
      */
     public List<List<DependencyNode>> getConflictedVersionNumbers()
     {
-        List<List<DependencyNode>> output = new ArrayList<List<DependencyNode>>();
-        for ( List<DependencyNode> nodes : idsToNode.values() )
-        {
-            if ( containsConflicts( nodes ) )
-            {
-                output.add( nodes );
-            }
-        }
-        return output;
+        return new ArrayList<List<DependencyNode>>( conflicts );
     }
 
     // ----------------------------------------------------------------------
     // Private methods
     // ----------------------------------------------------------------------
 
-    private void addDependency( DependencyNode node )
+    private VersionedNodes addDependency( DependencyNode node )
     {
-        String key = constructKey( node );
-        List<DependencyNode> nodes = idsToNode.get( key );
+        Artifact artifact = node.getArtifact();
+
+        Map<String, VersionedNodes> artifactIdsToNode = idsToNode.get( artifact.getGroupId() );
+        if ( artifactIdsToNode == null )
+        {
+            artifactIdsToNode = new HashMap<String, VersionedNodes>();
+            idsToNode.put( artifact.getGroupId(), artifactIdsToNode );
+        }
+
+        VersionedNodes nodes = artifactIdsToNode.get( artifact.getArtifactId() );
         if ( nodes == null )
         {
-            nodes = new ArrayList<DependencyNode>();
-            idsToNode.put( key, nodes );
+            nodes = new VersionedNodes();
+            artifactIdsToNode.put( artifact.getArtifactId(), nodes );
         }
-        nodes.add( node );
-    }
 
-    private String constructKey( DependencyNode node )
-    {
-        return constructKey( node.getArtifact() );
-    }
+        boolean conflicting = nodes.containsConflicts();
+        nodes.add( node, getVersion( artifact ) );
+        if ( !conflicting && nodes.containsConflicts() )
+        {
+            conflicts.add( nodes.getNodes() );
+        }
 
-    private String constructKey( Artifact artifact )
-    {
-        return artifact.getGroupId() + ":" + artifact.getArtifactId();
+        return nodes;
     }
 
     private String getVersion( Artifact artifact )
@@ -126,40 +134,33 @@ public class DependencyVersionMap
         return uniqueVersions ? artifact.getVersion() : artifact.getBaseVersion();
     }
 
-    private boolean containsConflicts( DependencyNode node )
-    {
-        return containsConflicts( node.getArtifact() );
-    }
-
-    private boolean containsConflicts( Artifact artifact )
-    {
-        return containsConflicts( idsToNode.get( constructKey( artifact ) ) );
-    }
-
     /**
-     * Check whether given dependency nodes contains conflicts
-     *
-     * @param nodes
-     * @return contains:true; not contains:false;
+     * The nodes of the same groupId:artifactId and their distinct versions.
      */
-    private boolean containsConflicts( List<DependencyNode> nodes )
+    private static class VersionedNodes
     {
-        String version = null;
-        for ( DependencyNode node : nodes )
+        private final List<DependencyNode> nodes = new ArrayList<DependencyNode>();
+
+        private final Set<String> versions = new HashSet<String>();
+
+        void add( DependencyNode node, String version )
+        {
+            nodes.add( node );
+            versions.add( version );
+        }
+
+        List<DependencyNode> getNodes()
+        {
+            return nodes;
+        }
+
+        /**
+         * @return contains:true; not contains:false;
+         */
+        boolean containsConflicts()
         {
-            if ( version == null )
-            {
-                version = getVersion( node.getArtifact() );
-            }
-            else
-            {
-                if ( version.compareTo( getVersion( node.getArtifact() ) ) != 0 )
-                {
-                    return true;
-                }
-            }
+            return versions.size() > 1;
         }
-        return false;
     }
 
-}
\ No newline at end of file
+}
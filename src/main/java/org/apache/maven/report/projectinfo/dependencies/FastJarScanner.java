@@ -0,0 +1,750 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Computes the {@link JarDetails} of a jar from its ZIP central directory, instead of parsing every class like
+ * <code>JarClassesAnalysis</code> does:
+ * <ul>
+ * <li>entries, classes and packages are counted from the entry names only;</li>
+ * <li>the JDK revision is computed from the first 8 bytes of each class;</li>
+ * <li>classes are fully read only until one of them is found with debug information.</li>
+ * </ul>
+ * Classes and packages are derived from the entry paths, and the versioned entries of multi-release jars
+ * (<code>META-INF/versions/</code>) are not counted again. Otherwise the figures are the same as the ones of
+ * <code>JarAnalyzer</code>.
+ * <p>
+ * The file is not mapped: the central directory, the local headers and the needed bytes of the entries are read from
+ * the file channel, so the file is not locked once the scan is over.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class FastJarScanner
+{
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+
+    private static final int END_SIZE = 22;
+
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+
+    private static final int ZIP64_END_SIZE = 56;
+
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int STORED = 0;
+
+    private static final int DEFLATED = 8;
+
+    private static final int CLASS_HEADER_SIZE = 8;
+
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    private static final byte[] CLASS_SUFFIX = ascii( ".class" );
+
+    private static final byte[] MODULE_INFO = ascii( "module-info.class" );
+
+    private static final byte[] VERSIONS_PREFIX = ascii( "META-INF/versions/" );
+
+    private static final byte[] MANIFEST_NAME = ascii( "META-INF/MANIFEST.MF" );
+
+    private static final String LINE_NUMBER_TABLE = "LineNumberTable";
+
+    private static final String CODE = "Code";
+
+    private FastJarScanner()
+    {
+        // nop
+    }
+
+    /**
+     * @param file the jar file, not null
+     * @return the details of the jar
+     * @throws IOException if the file is not a valid jar
+     */
+    public static JarDetails scan( File file )
+        throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile( file, "r" );
+        try
+        {
+            return new Scan( raf.getChannel() ).run();
+        }
+        catch ( IndexOutOfBoundsException e )
+        {
+            throw new ZipException( "Invalid jar file " + file + ": " + e.getMessage() );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new ZipException( "Invalid jar file " + file + ": " + e.getMessage() );
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    /**
+     * @param version the class version, i.e. <code>major + minor / 10</code>
+     * @return the JDK revision, as computed by <code>JarClassesAnalysis</code>
+     */
+    static String getJdkRevision( double version )
+    {
+        if ( version == 52.0 )
+        {
+            return "1.8";
+        }
+        else if ( version == 51.0 )
+        {
+            return "1.7";
+        }
+        else if ( version == 50.0 )
+        {
+            return "1.6";
+        }
+        else if ( version == 49.0 )
+        {
+            return "1.5";
+        }
+        else if ( version == 48.0 )
+        {
+            return "1.4";
+        }
+        else if ( version == 47.0 )
+        {
+            return "1.3";
+        }
+        else if ( version == 46.0 )
+        {
+            return "1.2";
+        }
+        else if ( version == 45.3 )
+        {
+            return "1.1";
+        }
+        return null;
+    }
+
+    /**
+     * @param b the class bytes
+     * @return <code>true</code> if a method of the class has a non empty line number table
+     */
+    static boolean hasDebugSymbols( byte[] b )
+    {
+        try
+        {
+            int pos = CLASS_HEADER_SIZE;
+            int cpCount = u2( b, pos );
+            pos += 2;
+
+            int codeIndex = -1;
+            int lineNumberTableIndex = -1;
+            for ( int i = 1; i < cpCount; i++ )
+            {
+                int tag = b[pos++];
+                switch ( tag )
+                {
+                    case 1: // Utf8
+                        int len = u2( b, pos );
+                        if ( equalsAscii( b, pos + 2, len, LINE_NUMBER_TABLE ) )
+                        {
+                            lineNumberTableIndex = i;
+                        }
+                        else if ( equalsAscii( b, pos + 2, len, CODE ) )
+                        {
+                            codeIndex = i;
+                        }
+                        pos += 2 + len;
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        pos += 4;
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        pos += 8;
+                        i++;
+                        break;
+                    case 7: // Class
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        pos += 2;
+                        break;
+                    case 15: // MethodHandle
+                        pos += 3;
+                        break;
+                    default:
+                        return false;
+                }
+            }
+
+            if ( codeIndex < 0 || lineNumberTableIndex < 0 )
+            {
+                return false;
+            }
+
+            // access flags, this class, super class
+            pos += 6;
+            // interfaces
+            pos += 2 + 2 * u2( b, pos );
+
+            // fields
+            int fieldsCount = u2( b, pos );
+            pos += 2;
+            for ( int i = 0; i < fieldsCount; i++ )
+            {
+                pos = skipAttributes( b, pos + 6 );
+            }
+
+            // methods
+            int methodsCount = u2( b, pos );
+            pos += 2;
+            for ( int i = 0; i < methodsCount; i++ )
+            {
+                pos += 6;
+                int attributesCount = u2( b, pos );
+                pos += 2;
+                for ( int j = 0; j < attributesCount; j++ )
+                {
+                    int nameIndex = u2( b, pos );
+                    int attributeLength = u4( b, pos + 2 );
+                    pos += 6;
+                    if ( nameIndex == codeIndex && hasLineNumbers( b, pos, lineNumberTableIndex ) )
+                    {
+                        return true;
+                    }
+                    pos += attributeLength;
+                }
+            }
+            return false;
+        }
+        catch ( ArrayIndexOutOfBoundsException e )
+        {
+            // invalid class, ignored as by JarClassesAnalysis
+            return false;
+        }
+    }
+
+    private static boolean hasLineNumbers( byte[] b, int codePos, int lineNumberTableIndex )
+    {
+        // max stack, max locals
+        int pos = codePos + 4;
+        pos += 4 + u4( b, pos );
+        // exception table
+        pos += 2 + 8 * u2( b, pos );
+
+        int attributesCount = u2( b, pos );
+        pos += 2;
+        for ( int i = 0; i < attributesCount; i++ )
+        {
+            int nameIndex = u2( b, pos );
+            int attributeLength = u4( b, pos + 2 );
+            pos += 6;
+            if ( nameIndex == lineNumberTableIndex && u2( b, pos ) > 0 )
+            {
+                return true;
+            }
+            pos += attributeLength;
+        }
+        return false;
+    }
+
+    private static int skipAttributes( byte[] b, int pos )
+    {
+        int attributesCount = u2( b, pos );
+        pos += 2;
+        for ( int i = 0; i < attributesCount; i++ )
+        {
+            pos += 6 + u4( b, pos + 2 );
+        }
+        return pos;
+    }
+
+    private static int u2( byte[] b, int pos )
+    {
+        return ( ( b[pos] & 0xFF ) << 8 ) | ( b[pos + 1] & 0xFF );
+    }
+
+    private static int u4( byte[] b, int pos )
+    {
+        return ( u2( b, pos ) << 16 ) | u2( b, pos + 2 );
+    }
+
+    private static boolean equalsAscii( byte[] b, int pos, int len, String s )
+    {
+        if ( len != s.length() )
+        {
+            return false;
+        }
+        for ( int i = 0; i < len; i++ )
+        {
+            if ( b[pos + i] != s.charAt( i ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii( String s )
+    {
+        byte[] b = new byte[s.length()];
+        for ( int i = 0; i < b.length; i++ )
+        {
+            b[i] = (byte) s.charAt( i );
+        }
+        return b;
+    }
+
+    /**
+     * The state of the scan of one jar.
+     */
+    private static class Scan
+    {
+        private final FileChannel channel;
+
+        /** The central directory, read at once */
+        private ByteBuffer zip;
+
+        private final ByteBuffer localHeader =
+            ByteBuffer.allocate( LOCAL_HEADER_SIZE ).order( ByteOrder.LITTLE_ENDIAN );
+
+        private final Inflater inflater = new Inflater( true );
+
+        private final byte[] input = new byte[1024];
+
+        private byte[] classBytes = new byte[8192];
+
+        private final Set<String> packages = new HashSet<String>();
+
+        private int numEntries;
+
+        private int numClasses;
+
+        private double maxVersion;
+
+        private boolean debugPresent;
+
+        private boolean sealed;
+
+        private int previousPackagePos = -1;
+
+        private int previousPackageLength = -1;
+
+        Scan( FileChannel channel )
+        {
+            this.channel = channel;
+        }
+
+        JarDetails run()
+            throws IOException
+        {
+            try
+            {
+                long fileSize = channel.size();
+                int tailSize = (int) Math.min( fileSize, ZIP64_LOCATOR_SIZE + END_SIZE + 0xFFFF );
+                ByteBuffer tail = read( fileSize - tailSize, tailSize );
+
+                int endPos = findEnd( tail );
+                long cdOffset = tail.getInt( endPos + 16 ) & ZIP64_MAGIC;
+                long cdSize = tail.getInt( endPos + 12 ) & ZIP64_MAGIC;
+
+                int locatorPos = endPos - ZIP64_LOCATOR_SIZE;
+                if ( locatorPos >= 0 && tail.getInt( locatorPos ) == ZIP64_LOCATOR_SIGNATURE )
+                {
+                    ByteBuffer zip64End = read( tail.getLong( locatorPos + 8 ), ZIP64_END_SIZE );
+                    if ( zip64End.getInt( 0 ) == ZIP64_END_SIGNATURE )
+                    {
+                        cdSize = zip64End.getLong( 40 );
+                        cdOffset = zip64End.getLong( 48 );
+                    }
+                }
+
+                zip = read( cdOffset, toInt( cdSize ) );
+                int pos = 0;
+                while ( pos < zip.limit() && zip.getInt( pos ) == CENTRAL_SIGNATURE )
+                {
+                    pos = readEntry( pos );
+                }
+            }
+            finally
+            {
+                inflater.end();
+            }
+
+            return new JarDetails( numEntries, numClasses, packages.size(), getJdkRevision( maxVersion ),
+                                   debugPresent, sealed );
+        }
+
+        private static int findEnd( ByteBuffer tail )
+            throws ZipException
+        {
+            int minPos = Math.max( 0, tail.limit() - END_SIZE - 0xFFFF );
+            for ( int pos = tail.limit() - END_SIZE; pos >= minPos; pos-- )
+            {
+                if ( tail.getInt( pos ) == END_SIGNATURE )
+                {
+                    return pos;
+                }
+            }
+            throw new ZipException( "End of central directory not found" );
+        }
+
+        /**
+         * @param position the position in the file
+         * @param size the number of bytes to read
+         * @return a new little endian buffer with the bytes of the file
+         */
+        private ByteBuffer read( long position, int size )
+            throws IOException
+        {
+            ByteBuffer buffer = ByteBuffer.allocate( size ).order( ByteOrder.LITTLE_ENDIAN );
+            readFully( buffer, position );
+            return buffer;
+        }
+
+        /**
+         * @param buffer the buffer to fill from its start, not null
+         * @param position the position in the file
+         */
+        private void readFully( ByteBuffer buffer, long position )
+            throws IOException
+        {
+            while ( buffer.hasRemaining() )
+            {
+                if ( channel.read( buffer, position + buffer.position() ) < 0 )
+                {
+                    throw new ZipException( "Unexpected end of file at " + ( position + buffer.position() ) );
+                }
+            }
+        }
+
+        /**
+         * @param pos the position of the central directory header of the entry
+         * @return the position of the next central directory header
+         */
+        private int readEntry( int pos )
+            throws IOException
+        {
+            numEntries++;
+
+            int method = u2( pos + 10 );
+            long compressedSize = u4( pos + 20 );
+            long size = u4( pos + 24 );
+            int nameLength = u2( pos + 28 );
+            int extraLength = u2( pos + 30 );
+            int commentLength = u2( pos + 32 );
+            long localOffset = u4( pos + 42 );
+            int namePos = pos + CENTRAL_HEADER_SIZE;
+
+            if ( size == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || localOffset == ZIP64_MAGIC )
+            {
+                int extraPos = namePos + nameLength;
+                int extraEnd = extraPos + extraLength;
+                while ( extraPos + 4 <= extraEnd )
+                {
+                    int id = u2( extraPos );
+                    int length = u2( extraPos + 2 );
+                    if ( id == ZIP64_EXTRA_ID )
+                    {
+                        int fieldPos = extraPos + 4;
+                        if ( size == ZIP64_MAGIC )
+                        {
+                            size = zip.getLong( fieldPos );
+                            fieldPos += 8;
+                        }
+                        if ( compressedSize == ZIP64_MAGIC )
+                        {
+                            compressedSize = zip.getLong( fieldPos );
+                            fieldPos += 8;
+                        }
+                        if ( localOffset == ZIP64_MAGIC )
+                        {
+                            localOffset = zip.getLong( fieldPos );
+                        }
+                        break;
+                    }
+                    extraPos += 4 + length;
+                }
+            }
+
+            if ( endsWith( namePos, nameLength, CLASS_SUFFIX ) )
+            {
+                readClass( namePos, nameLength, method, localOffset, toInt( compressedSize ), toInt( size ) );
+            }
+            else if ( nameEquals( namePos, nameLength, MANIFEST_NAME ) )
+            {
+                readManifest( method, localOffset, toInt( compressedSize ), toInt( size ) );
+            }
+
+            return namePos + nameLength + extraLength + commentLength;
+        }
+
+        private void readClass( int namePos, int nameLength, int method, long localOffset, int compressedSize,
+                                int size )
+            throws IOException
+        {
+            boolean versioned = startsWith( namePos, nameLength, VERSIONS_PREFIX );
+            int slash = lastSlash( namePos, nameLength );
+            int simpleNameLength = nameLength - ( slash + 1 - namePos );
+            if ( nameEquals( slash + 1, simpleNameLength, MODULE_INFO ) )
+            {
+                return;
+            }
+
+            int read = readData( method, localOffset, compressedSize, size, debugPresent ? CLASS_HEADER_SIZE : size );
+            if ( read < CLASS_HEADER_SIZE || u4BigEndian( 0 ) != CLASS_MAGIC )
+            {
+                // invalid class, ignored as by JarClassesAnalysis
+                return;
+            }
+
+            int minor = ( ( classBytes[4] & 0xFF ) << 8 ) | ( classBytes[5] & 0xFF );
+            int major = ( ( classBytes[6] & 0xFF ) << 8 ) | ( classBytes[7] & 0xFF );
+            double version = major;
+            if ( minor > 0 )
+            {
+                version += minor / 10.0;
+            }
+            maxVersion = Math.max( maxVersion, version );
+
+            if ( !debugPresent && read == size )
+            {
+                debugPresent = hasDebugSymbols( classBytes );
+            }
+
+            if ( versioned )
+            {
+                return;
+            }
+
+            numClasses++;
+
+            int packageLength = Math.max( 0, slash - namePos );
+            if ( packageLength != previousPackageLength
+                || !regionEquals( namePos, previousPackagePos, packageLength ) )
+            {
+                packages.add( new String( zip.array(), namePos, packageLength, "UTF-8" ).replace( '/', '.' ) );
+
+                previousPackagePos = namePos;
+                previousPackageLength = packageLength;
+            }
+        }
+
+        private void readManifest( int method, long localOffset, int compressedSize, int size )
+            throws IOException
+        {
+            int read = readData( method, localOffset, compressedSize, size, size );
+            try
+            {
+                Manifest manifest = new Manifest( new ByteArrayInputStream( classBytes, 0, read ) );
+                String value = manifest.getMainAttributes().getValue( Attributes.Name.SEALED );
+                sealed = value != null && "true".equalsIgnoreCase( value.trim() );
+            }
+            catch ( IOException e )
+            {
+                // not sealed, as by JarAnalyzer
+            }
+        }
+
+        /**
+         * Read the first bytes of an entry into {@link #classBytes}.
+         *
+         * @return the number of bytes read
+         */
+        private int readData( int method, long localOffset, int compressedSize, int size, int wanted )
+            throws IOException
+        {
+            localHeader.clear();
+            readFully( localHeader, localOffset );
+            if ( localHeader.getInt( 0 ) != LOCAL_SIGNATURE )
+            {
+                throw new ZipException( "Invalid local header at " + localOffset );
+            }
+            long dataPos = localOffset + LOCAL_HEADER_SIZE + ( localHeader.getShort( 26 ) & 0xFFFF )
+                + ( localHeader.getShort( 28 ) & 0xFFFF );
+
+            int length = Math.min( wanted, size );
+            if ( classBytes.length < length )
+            {
+                classBytes = new byte[Math.max( length, classBytes.length * 2 )];
+            }
+
+            if ( method == STORED )
+            {
+                length = Math.min( length, compressedSize );
+                readFully( ByteBuffer.wrap( classBytes, 0, length ), dataPos );
+                return length;
+            }
+            else if ( method != DEFLATED )
+            {
+                throw new ZipException( "Unsupported compression method " + method );
+            }
+
+            inflater.reset();
+            int remaining = compressedSize;
+            int read = 0;
+            try
+            {
+                while ( read < length && !inflater.finished() )
+                {
+                    if ( inflater.needsInput() )
+                    {
+                        if ( remaining == 0 )
+                        {
+                            break;
+                        }
+                        int n = Math.min( input.length, remaining );
+                        readFully( ByteBuffer.wrap( input, 0, n ), dataPos );
+                        inflater.setInput( input, 0, n );
+                        dataPos += n;
+                        remaining -= n;
+                    }
+                    else if ( inflater.needsDictionary() )
+                    {
+                        throw new ZipException( "Unsupported preset dictionary" );
+                    }
+                    read += inflater.inflate( classBytes, read, length - read );
+                }
+            }
+            catch ( DataFormatException e )
+            {
+                throw new ZipException( e.getMessage() );
+            }
+            return read;
+        }
+
+        private int lastSlash( int namePos, int nameLength )
+        {
+            for ( int i = namePos + nameLength - 1; i >= namePos; i-- )
+            {
+                if ( zip.get( i ) == '/' )
+                {
+                    return i;
+                }
+            }
+            return namePos - 1;
+        }
+
+        private boolean regionEquals( int pos, int otherPos, int length )
+        {
+            for ( int i = 0; i < length; i++ )
+            {
+                if ( zip.get( pos + i ) != zip.get( otherPos + i ) )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean nameEquals( int pos, int length, byte[] expected )
+        {
+            return length == expected.length && startsWith( pos, length, expected );
+        }
+
+        private boolean startsWith( int pos, int length, byte[] prefix )
+        {
+            if ( length < prefix.length )
+            {
+                return false;
+            }
+            for ( int i = 0; i < prefix.length; i++ )
+            {
+                if ( zip.get( pos + i ) != prefix[i] )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean endsWith( int pos, int length, byte[] suffix )
+        {
+            return length >= suffix.length && startsWith( pos + length - suffix.length, suffix.length, suffix );
+        }
+
+        private int u2( int pos )
+        {
+            return zip.getShort( pos ) & 0xFFFF;
+        }
+
+        private long u4( int pos )
+        {
+            return zip.getInt( pos ) & ZIP64_MAGIC;
+        }
+
+        private int u4BigEndian( int pos )
+        {
+            return FastJarScanner.u4( classBytes, pos );
+        }
+
+        private static int toInt( long value )
+            throws ZipException
+        {
+            if ( value < 0 || value > Integer.MAX_VALUE )
+            {
+                throw new ZipException( "Invalid offset or size " + value );
+            }
+            return (int) value;
+        }
+    }
+}
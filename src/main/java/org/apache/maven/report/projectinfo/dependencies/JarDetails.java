@@ -0,0 +1,121 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.maven.shared.jar.JarData;
+
+/**
+ * The figures of a dependency file displayed in the "Dependency File Details" section, without the full
+ * class and entry lists kept by {@link JarData}.
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class JarDetails
+{
+    private final int numEntries;
+
+    private final int numClasses;
+
+    private final int numPackages;
+
+    private final String jdkRevision;
+
+    private final boolean debugPresent;
+
+    private final boolean sealed;
+
+    /**
+     * @param numEntries the number of entries
+     * @param numClasses the number of classes
+     * @param numPackages the number of packages
+     * @param jdkRevision the highest JDK revision of the classes, could be null
+     * @param debugPresent <code>true</code> if classes have debug information
+     * @param sealed <code>true</code> if the jar is sealed
+     */
+    public JarDetails( int numEntries, int numClasses, int numPackages, String jdkRevision, boolean debugPresent,
+                       boolean sealed )
+    {
+        this.numEntries = numEntries;
+        this.numClasses = numClasses;
+        this.numPackages = numPackages;
+        this.jdkRevision = jdkRevision;
+        this.debugPresent = debugPresent;
+        this.sealed = sealed;
+    }
+
+    /**
+     * @param jarData not null
+     * @return the details of the given jar data
+     */
+    public static JarDetails of( JarData jarData )
+    {
+        return new JarDetails( jarData.getNumEntries(), jarData.getNumClasses(), jarData.getNumPackages(),
+                               jarData.getJdkRevision(), jarData.isDebugPresent(), jarData.isSealed() );
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int getNumEntries()
+    {
+        return numEntries;
+    }
+
+    /**
+     * @return the number of classes
+     */
+    public int getNumClasses()
+    {
+        return numClasses;
+    }
+
+    /**
+     * @return the number of packages
+     */
+    public int getNumPackages()
+    {
+        return numPackages;
+    }
+
+    /**
+     * @return the highest JDK revision of the classes, could be null
+     */
+    public String getJdkRevision()
+    {
+        return jdkRevision;
+    }
+
+    /**
+     * @return <code>true</code> if classes have debug information
+     */
+    public boolean isDebugPresent()
+    {
+        return debugPresent;
+    }
+
+    /**
+     * @return <code>true</code> if the jar is sealed
+     */
+    public boolean isSealed()
+    {
+        return sealed;
+    }
+}
@@ -0,0 +1,320 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+import org.apache.maven.plugin.logging.Log;
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.StringUtils;
+
+/**
+ * Persistent cache of {@link JarDetails}, shared between builds so that unchanged jars are not analyzed again.
+ * Entries are keyed by the absolute path of the jar and by the way the details were computed, since the
+ * {@link FastJarScanner} could give other figures than the full analysis. They are only valid while the size and the
+ * last modification time of the file are unchanged, and optionally its SHA-1 checksum.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class JarDetailsCache
+{
+    private static final String SEPARATOR = "|";
+
+    /** The prefix of the keys of the details computed by the {@link FastJarScanner} */
+    private static final String FAST_SCAN_PREFIX = "fastScan:";
+
+    private final File cacheFile;
+
+    private final boolean useChecksum;
+
+    private final Properties entries = new Properties();
+
+    private boolean dirty;
+
+    private long hits;
+
+    private long misses;
+
+    /**
+     * @param cacheFile the file storing the cache, not null
+     * @param useChecksum <code>true</code> to also check the SHA-1 checksum of the jars
+     */
+    public JarDetailsCache( File cacheFile, boolean useChecksum )
+    {
+        this.cacheFile = cacheFile;
+        this.useChecksum = useChecksum;
+    }
+
+    /**
+     * Load the entries stored in the cache file, if it exists.
+     *
+     * @param log not null
+     */
+    public synchronized void load( Log log )
+    {
+        if ( !cacheFile.isFile() )
+        {
+            return;
+        }
+
+        InputStream in = null;
+        try
+        {
+            in = new FileInputStream( cacheFile );
+            entries.load( in );
+            in.close();
+            in = null;
+        }
+        catch ( IOException e )
+        {
+            log.warn( "Unable to read the dependency file details cache " + cacheFile + ": " + e.getMessage() );
+            entries.clear();
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+
+    /**
+     * Store the entries in the cache file if some entries were added since the last call. Entries of files that do
+     * not exist anymore are dropped.
+     *
+     * @param log not null
+     */
+    public synchronized void save( Log log )
+    {
+        if ( !dirty )
+        {
+            return;
+        }
+
+        for ( Object key : entries.keySet().toArray() )
+        {
+            String path = (String) key;
+            if ( path.startsWith( FAST_SCAN_PREFIX ) )
+            {
+                path = path.substring( FAST_SCAN_PREFIX.length() );
+            }
+            if ( !new File( path ).isFile() )
+            {
+                entries.remove( key );
+            }
+        }
+
+        OutputStream out = null;
+        File tmpFile = null;
+        try
+        {
+            cacheFile.getParentFile().mkdirs();
+
+            // a temporary file of its own, as concurrent builds could save the same cache file
+            tmpFile = File.createTempFile( cacheFile.getName(), ".tmp", cacheFile.getParentFile() );
+            out = new FileOutputStream( tmpFile );
+            entries.store( out, "maven-project-info-reports-plugin dependency file details" );
+            out.close();
+            out = null;
+
+            if ( !tmpFile.renameTo( cacheFile ) )
+            {
+                cacheFile.delete();
+                if ( !tmpFile.renameTo( cacheFile ) )
+                {
+                    throw new IOException( "Unable to rename " + tmpFile + " to " + cacheFile );
+                }
+            }
+
+            dirty = false;
+        }
+        catch ( IOException e )
+        {
+            log.warn( "Unable to write the dependency file details cache " + cacheFile + ": " + e.getMessage() );
+        }
+        finally
+        {
+            IOUtil.close( out );
+            if ( tmpFile != null )
+            {
+                tmpFile.delete();
+            }
+        }
+    }
+
+    /**
+     * @param file the jar file, not null
+     * @param fastScan <code>true</code> for the details computed by the {@link FastJarScanner}
+     * @return the cached details of the jar or null if the jar is not cached or has changed
+     */
+    public JarDetails get( File file, boolean fastScan )
+    {
+        String value;
+        synchronized ( this )
+        {
+            value = entries.getProperty( getKey( file, fastScan ) );
+        }
+
+        JarDetails details = null;
+        if ( value != null )
+        {
+            String[] fields = StringUtils.split( value, SEPARATOR );
+            if ( fields.length == 9 && getFingerprint( file ).equals( fields[0] + SEPARATOR + fields[1] + SEPARATOR
+                + fields[2] ) )
+            {
+                try
+                {
+                    details = new JarDetails( Integer.parseInt( fields[3] ), Integer.parseInt( fields[4] ),
+                                              Integer.parseInt( fields[5] ),
+                                              "-".equals( fields[6] ) ? null : fields[6],
+                                              Boolean.parseBoolean( fields[7] ), Boolean.parseBoolean( fields[8] ) );
+                }
+                catch ( NumberFormatException e )
+                {
+                    // corrupted entry, analyze the jar again
+                }
+            }
+        }
+
+        synchronized ( this )
+        {
+            if ( details != null )
+            {
+                hits++;
+            }
+            else
+            {
+                misses++;
+            }
+        }
+
+        return details;
+    }
+
+    /**
+     * @param file the jar file, not null
+     * @param fastScan <code>true</code> if the details were computed by the {@link FastJarScanner}
+     * @param details the details of the jar, not null
+     */
+    public void put( File file, boolean fastScan, JarDetails details )
+    {
+        String value =
+            getFingerprint( file ) + SEPARATOR + details.getNumEntries() + SEPARATOR + details.getNumClasses()
+                + SEPARATOR + details.getNumPackages() + SEPARATOR
+                + ( details.getJdkRevision() == null ? "-" : details.getJdkRevision() ) + SEPARATOR
+                + details.isDebugPresent() + SEPARATOR + details.isSealed();
+
+        synchronized ( this )
+        {
+            entries.setProperty( getKey( file, fastScan ), value );
+            dirty = true;
+        }
+    }
+
+    /**
+     * Log the hit ratio of the cache at debug level.
+     *
+     * @param log not null
+     */
+    public synchronized void logStatistics( Log log )
+    {
+        long total = hits + misses;
+        if ( total > 0 && log.isDebugEnabled() )
+        {
+            log.debug( "Dependency file details cache: " + hits + " hits, " + misses + " misses ("
+                + ( hits * 100 / total ) + "% hit ratio)" );
+        }
+    }
+
+    /**
+     * @return the number of jars served from the cache
+     */
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * @return the number of jars not found in the cache
+     */
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    private static String getKey( File file, boolean fastScan )
+    {
+        return fastScan ? FAST_SCAN_PREFIX + file.getAbsolutePath() : file.getAbsolutePath();
+    }
+
+    private String getFingerprint( File file )
+    {
+        return file.length() + SEPARATOR + file.lastModified() + SEPARATOR
+            + ( useChecksum ? getChecksum( file ) : "-" );
+    }
+
+    private static String getChecksum( File file )
+    {
+        InputStream in = null;
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+
+            in = new FileInputStream( file );
+            byte[] buffer = new byte[8192];
+            for ( int n = in.read( buffer ); n != -1; n = in.read( buffer ) )
+            {
+                digest.update( buffer, 0, n );
+            }
+            in.close();
+            in = null;
+
+            StringBuilder sb = new StringBuilder();
+            for ( byte b : digest.digest() )
+            {
+                sb.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+            }
+            return sb.toString();
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IllegalStateException( e );
+        }
+        catch ( IOException e )
+        {
+            // an unreadable file never matches a cached checksum
+            return "?";
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+    }
+}
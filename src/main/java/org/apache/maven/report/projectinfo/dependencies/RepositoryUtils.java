@@ -20,7 +20,13 @@ package org.apache.maven.report.projectinfo.dependencies;
  */
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
@@ -38,6 +44,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.MavenProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.report.projectinfo.MavenProjectCache;
 import org.codehaus.plexus.util.StringUtils;
 
 /**
@@ -62,6 +69,8 @@ public class RepositoryUtils
 
     private final ArtifactRepository localRepository;
 
+    private final MavenProjectCache mavenProjectCache;
+
     /**
      * @param log {@link Log}
      * @param mavenProjectBuilder {@link MavenProjectBuilder}
@@ -76,6 +85,27 @@ public class RepositoryUtils
                             ArtifactResolver resolver, List<ArtifactRepository> remoteRepositories,
                             List<ArtifactRepository> pluginRepositories, ArtifactRepository localRepository,
                             RepositoryMetadataManager repositoryMetadataManager )
+    {
+        this( log, mavenProjectBuilder, factory, resolver, remoteRepositories, pluginRepositories, localRepository,
+              repositoryMetadataManager, new MavenProjectCache( MavenProjectCache.DEFAULT_MAX_SIZE ) );
+    }
+
+    /**
+     * @param log {@link Log}
+     * @param mavenProjectBuilder {@link MavenProjectBuilder}
+     * @param factory {@link ArtifactFactory}
+     * @param resolver {@link ArtifactResolver}
+     * @param remoteRepositories {@link ArtifactRepository}
+     * @param pluginRepositories {@link ArtifactRepository}
+     * @param localRepository {@link ArtifactRepository}
+     * @param repositoryMetadataManager {@link RepositoryMetadataManager}
+     * @param mavenProjectCache {@link MavenProjectCache}
+     * @since 2.10
+     */
+    public RepositoryUtils( Log log, MavenProjectBuilder mavenProjectBuilder, ArtifactFactory factory,
+                            ArtifactResolver resolver, List<ArtifactRepository> remoteRepositories,
+                            List<ArtifactRepository> pluginRepositories, ArtifactRepository localRepository,
+                            RepositoryMetadataManager repositoryMetadataManager, MavenProjectCache mavenProjectCache )
     {
         this.log = log;
         this.mavenProjectBuilder = mavenProjectBuilder;
@@ -84,6 +114,7 @@ public class RepositoryUtils
         this.remoteRepositories = remoteRepositories;
         this.pluginRepositories = pluginRepositories;
         this.localRepository = localRepository;
+        this.mavenProjectCache = mavenProjectCache;
     }
 
     /**
@@ -94,6 +125,15 @@ public class RepositoryUtils
         return localRepository;
     }
 
+    /**
+     * @return the cache used to build the Maven projects from the repository
+     * @since 2.10
+     */
+    public MavenProjectCache getMavenProjectCache()
+    {
+        return mavenProjectCache;
+    }
+
     /**
      * @return remote artifact repo
      */
@@ -148,8 +188,67 @@ public class RepositoryUtils
         }
 
         // TODO: we should use the MavenMetadataSource instead
-        return mavenProjectBuilder.buildFromRepository( projectArtifact, remoteRepositories, localRepository,
-                                                        allowStubModel );
+        return mavenProjectCache.buildFromRepository( mavenProjectBuilder, projectArtifact, remoteRepositories,
+                                                      localRepository, allowStubModel );
+    }
+
+    /**
+     * Build the Maven projects of the given artifacts on a bounded pool of threads, so that the following calls to
+     * {@link #getMavenProjectFromRepository(Artifact)} are served by the {@link MavenProjectCache}. Errors are only
+     * logged at debug level: they will be reported again when the project is requested.
+     * <p>
+     * The cache is grown to hold all of them, and the models a renderer may also request with a stub model allowed.
+     * </p>
+     *
+     * @param artifacts not null
+     * @param threads the maximum number of projects built concurrently
+     * @since 2.10
+     */
+    public void prefetchMavenProjects( Collection<Artifact> artifacts, int threads )
+    {
+        mavenProjectCache.ensureCapacity( 2 * artifacts.size() );
+
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<MavenProject>> futures = new ArrayList<Future<MavenProject>>( artifacts.size() );
+            for ( final Artifact artifact : artifacts )
+            {
+                if ( Artifact.SCOPE_SYSTEM.equals( artifact.getScope() ) )
+                {
+                    continue;
+                }
+
+                futures.add( executor.submit( new Callable<MavenProject>()
+                {
+                    public MavenProject call()
+                        throws ProjectBuildingException
+                    {
+                        return getMavenProjectFromRepository( artifact );
+                    }
+                } ) );
+            }
+
+            for ( Future<MavenProject> future : futures )
+            {
+                try
+                {
+                    future.get();
+                }
+                catch ( ExecutionException e )
+                {
+                    log.debug( "Unable to prefetch Maven project: " + e.getCause().getMessage() );
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
     }
 
     /**
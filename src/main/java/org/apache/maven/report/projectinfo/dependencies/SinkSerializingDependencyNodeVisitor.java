@@ -19,6 +19,7 @@ package org.apache.maven.report.projectinfo.dependencies;
  * under the License.
  */
 
+import java.util.BitSet;
 import java.util.List;
 
 import org.apache.maven.doxia.sink.Sink;
@@ -96,6 +97,11 @@ public class SinkSerializingDependencyNodeVisitor
      */
     private int depth;
 
+    /**
+     * Whether the visited nodes that are not ended yet are the last of their siblings, by depth.
+     */
+    private final BitSet lastFlags = new BitSet();
+
     // constructors -----------------------------------------------------------
 
     /**
@@ -118,11 +124,14 @@ public class SinkSerializingDependencyNodeVisitor
      */
     public boolean visit( DependencyNode node )
     {
-        indent( node );
+        boolean last = isLast( node );
+
+        indent( last );
 
         sink.text( node.toNodeString() );
         sink.lineBreak();
 
+        lastFlags.set( depth, last );
         depth++;
 
         return true;
@@ -141,69 +150,41 @@ public class SinkSerializingDependencyNodeVisitor
     // private methods --------------------------------------------------------
 
     /**
-     * Writes the necessary tokens to indent the specified dependency node to this visitor's writer.
+     * Writes the necessary tokens to indent the currently visited dependency node to this visitor's writer.
      *
-     * @param node the dependency node to indent
+     * @param last whether the currently visited dependency node is the last of its siblings
      */
-    private void indent( DependencyNode node )
+    private void indent( boolean last )
     {
         for ( int i = 1; i < depth; i++ )
         {
-            tokens.fillIndent( isLast( node, i ) );
+            tokens.fillIndent( lastFlags.get( i ) );
         }
 
         if ( depth > 0 )
         {
-            tokens.addNodeIndent( isLast( node ) );
+            tokens.addNodeIndent( last );
         }
     }
 
     /**
-     * Gets whether the specified dependency node is the last of its siblings.
+     * Gets whether the specified dependency node is the last of its siblings. The flags of the ancestors are kept in
+     * {@link #lastFlags} while they are visited, so that each node is checked once.
      *
      * @param node the dependency node to check
-     * @return <code>true</code> if the specified dependency node is the last of its last siblings
+     * @return <code>true</code> if the specified dependency node is the last of its siblings
      */
-    private boolean isLast( DependencyNode node )
+    private static boolean isLast( DependencyNode node )
     {
-        // TODO: remove node argument and calculate from visitor calls only
-
         DependencyNode parent = node.getParent();
 
-        boolean last;
-
         if ( parent == null )
         {
-            last = true;
+            return true;
         }
-        else
-        {
-            List<DependencyNode> siblings = parent.getChildren();
 
-            last = ( siblings.indexOf( node ) == siblings.size() - 1 );
-        }
-
-        return last;
-    }
-
-    /**
-     * Gets whether the specified dependency node ancestor is the last of its siblings.
-     *
-     * @param node the dependency node whose ancestor to check
-     * @param ancestorDepth the depth of the ancestor of the specified dependency node to check
-     * @return <code>true</code> if the specified dependency node ancestor is the last of its siblings
-     */
-    private boolean isLast( DependencyNode node, int ancestorDepth )
-    {
-        // TODO: remove node argument and calculate from visitor calls only
-
-        int distance = depth - ancestorDepth;
-
-        while ( distance-- > 0 )
-        {
-            node = node.getParent();
-        }
+        List<DependencyNode> siblings = parent.getChildren();
 
-        return isLast( node );
+        return siblings.get( siblings.size() - 1 ) == node;
     }
 }
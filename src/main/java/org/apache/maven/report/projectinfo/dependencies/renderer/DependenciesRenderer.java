@@ -26,11 +26,14 @@ import java.io.StringWriter;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.FieldPosition;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -57,9 +60,9 @@ import org.apache.maven.report.projectinfo.AbstractProjectInfoRenderer;
 import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
 import org.apache.maven.report.projectinfo.dependencies.Dependencies;
 import org.apache.maven.report.projectinfo.dependencies.DependenciesReportConfiguration;
+import org.apache.maven.report.projectinfo.dependencies.JarDetails;
 import org.apache.maven.report.projectinfo.dependencies.RepositoryUtils;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.shared.jar.JarData;
 import org.codehaus.plexus.i18n.I18N;
 import org.codehaus.plexus.util.StringUtils;
 
@@ -134,6 +137,21 @@ public class DependenciesRenderer
 
     private final ArtifactRepository localRepository;
 
+    /** The details of the dependency tree loaded on demand, or null if they are inlined */
+    private final DependencyTreeDetails treeDetails;
+
+    /** The ids of the distinct subtrees of the dependency tree, by node, or null if the subtrees are repeated */
+    private Map<DependencyNode, Integer> subtreeIds;
+
+    /** The dependencies of the project, to filter the children of the nodes of the dependency tree */
+    private Set<Artifact> includedArtifacts;
+
+    /** The ids of the subtrees found more than once in the dependency tree */
+    private final Set<Integer> repeatedSubtrees = new HashSet<Integer>();
+
+    /** The anchors of the repeated subtrees already rendered, by subtree id */
+    private final Map<Integer, String> subtreeAnchors = new HashMap<Integer, String>();
+
     static
     {
         Set<String> jarSubtype = new HashSet<String>();
@@ -180,6 +198,7 @@ public class DependenciesRenderer
         this.mavenProjectBuilder = mavenProjectBuilder;
         this.remoteRepositories = remoteRepositories;
         this.localRepository = localRepository;
+        this.treeDetails = config.getDependencyTreeLazyDetails() ? new DependencyTreeDetails() : null;
 
         // Using the right set of symbols depending of the locale
         DEFAULT_DECIMAL_FORMAT.setDecimalFormatSymbols( new DecimalFormatSymbols( locale ) );
@@ -233,6 +252,16 @@ public class DependenciesRenderer
         }
     }
 
+    /**
+     * @return the details of the dependency tree to write to {@link DependencyTreeDetails#FILE_NAME} once the report
+     * is rendered, or null if they are inlined in the report
+     * @since 2.10
+     */
+    public DependencyTreeDetails getDependencyTreeDetails()
+    {
+        return treeDetails;
+    }
+
     // ----------------------------------------------------------------------
     // Protected methods
     // ----------------------------------------------------------------------
@@ -458,10 +487,26 @@ public class DependenciesRenderer
 
         pw.println( "" );
         pw.println( "<script language=\"javascript\" type=\"text/javascript\">" );
-        pw.println( "      function toggleDependencyDetails( divId, imgId )" );
+        if ( treeDetails != null )
+        {
+            printDependencyDetailsLoader( pw );
+        }
+        pw.println( "      function toggleDependencyDetails( divId, imgId, key )" );
         pw.println( "      {" );
         pw.println( "        var div = document.getElementById( divId );" );
         pw.println( "        var img = document.getElementById( imgId );" );
+        if ( treeDetails != null )
+        {
+            pw.println( "        if( key && !div.hasChildNodes() )" );
+            pw.println( "        {" );
+            pw.println( "          loadDependencyDetails( function()" );
+            pw.println( "          {" );
+            pw.println( "            fillDependencyDetails( div, key );" );
+            pw.println( "            toggleDependencyDetails( divId, imgId );" );
+            pw.println( "          } );" );
+            pw.println( "          return;" );
+            pw.println( "        }" );
+        }
         pw.println( "        if( div.style.display == '' )" );
         pw.println( "        {" );
         pw.println( "          div.style.display = 'none';" );
@@ -482,6 +527,12 @@ public class DependenciesRenderer
         // for Dependencies Graph Tree
         startSection( getI18nString( "graph.tree.title" ) );
 
+        if ( configuration.getDependencyTreeDeduplicate() )
+        {
+            subtreeIds = new IdentityHashMap<DependencyNode, Integer>();
+            computeSubtreeIds( dependencyNode );
+        }
+
         sink.list();
         printDependencyListing( dependencyNode );
         sink.list_();
@@ -489,6 +540,119 @@ public class DependenciesRenderer
         endSection();
     }
 
+    /**
+     * Print the JavaScript functions loading {@link DependencyTreeDetails#FILE_NAME} on the first click on a node of
+     * the dependency tree, and filling the details of a node.
+     *
+     * @param pw not null
+     */
+    private void printDependencyDetailsLoader( PrintWriter pw )
+    {
+        pw.println( "      var dependencyDetails = null;" );
+        pw.println( "      var dependencyDetailsLabels =" );
+        pw.println( "      {" );
+        pw.printf(  "        description: %s,%n", DependencyTreeDetails.quote( getI18nString( "column.description" ) ) );
+        pw.printf(  "        nodescription: %s,%n",
+                    DependencyTreeDetails.quote( getI18nString( "index", "nodescription" ) ) );
+        pw.printf(  "        url: %s,%n", DependencyTreeDetails.quote( getI18nString( "column.url" ) ) );
+        pw.printf(  "        licenses: %s,%n", DependencyTreeDetails.quote( getI18nString( "licenses", "title" ) ) );
+        pw.printf(  "        nolicense: %s,%n",
+                    DependencyTreeDetails.quote( getI18nString( "licenses", "nolicense" ) ) );
+        pw.printf(  "        unnamed: %s%n", DependencyTreeDetails.quote( getI18nString( "unnamed" ) ) );
+        pw.println( "      };" );
+        pw.println( "      function loadDependencyDetails( callback )" );
+        pw.println( "      {" );
+        pw.println( "        if( dependencyDetails != null )" );
+        pw.println( "        {" );
+        pw.println( "          callback();" );
+        pw.println( "          return;" );
+        pw.println( "        }" );
+        pw.println( "        var request = new XMLHttpRequest();" );
+        pw.printf(  "        request.open( 'GET', '%s', true );%n", DependencyTreeDetails.FILE_NAME );
+        pw.println( "        request.onreadystatechange = function()" );
+        pw.println( "        {" );
+        pw.println( "          if( request.readyState != 4 )" );
+        pw.println( "          {" );
+        pw.println( "            return;" );
+        pw.println( "          }" );
+        pw.println( "          try" );
+        pw.println( "          {" );
+        pw.println( "            dependencyDetails = JSON.parse( request.responseText );" );
+        pw.println( "          }" );
+        pw.println( "          catch( e )" );
+        pw.println( "          {" );
+        pw.println( "            dependencyDetails = {};" );
+        pw.println( "          }" );
+        pw.println( "          callback();" );
+        pw.println( "        };" );
+        pw.println( "        request.send( null );" );
+        pw.println( "      }" );
+        pw.println( "      function fillDependencyDetails( div, key )" );
+        pw.println( "      {" );
+        pw.println( "        if( div.hasChildNodes() )" );
+        pw.println( "        {" );
+        pw.println( "          return;" );
+        pw.println( "        }" );
+        pw.println( "        var details = dependencyDetails[key] || { name: key };" );
+        pw.println( "        var table = document.createElement( 'table' );" );
+        pw.println( "        table.className = 'bodyTable';" );
+        pw.println( "        var header = table.insertRow( -1 );" );
+        pw.println( "        header.className = 'a';" );
+        pw.println( "        var th = document.createElement( 'th' );" );
+        pw.println( "        th.appendChild( document.createTextNode( details.name ) );" );
+        pw.println( "        header.appendChild( th );" );
+        pw.println( "        var row = table.insertRow( -1 );" );
+        pw.println( "        row.className = 'b';" );
+        pw.println( "        var cell = row.insertCell( -1 );" );
+        pw.println( "        var labels = dependencyDetailsLabels;" );
+        pw.println( "        appendDependencyDetail( cell, labels.description," );
+        pw.println( "                                [ details.description || labels.nodescription ] );" );
+        pw.println( "        if( details.url )" );
+        pw.println( "        {" );
+        pw.println( "          appendDependencyDetail( cell, labels.url," );
+        pw.println( "                                  [ details.link ? { name: details.url, url: details.url }" );
+        pw.println( "                                                 : details.url ] );" );
+        pw.println( "        }" );
+        pw.println( "        if( details.licenses )" );
+        pw.println( "        {" );
+        pw.println( "          appendDependencyDetail( cell, labels.licenses," );
+        pw.println( "                                  details.licenses.length ? details.licenses" );
+        pw.println( "                                                          : [ labels.nolicense ] );" );
+        pw.println( "        }" );
+        pw.println( "        div.appendChild( table );" );
+        pw.println( "      }" );
+        pw.println( "      function appendDependencyDetail( cell, label, values )" );
+        pw.println( "      {" );
+        pw.println( "        var p = document.createElement( 'p' );" );
+        pw.println( "        var b = document.createElement( 'b' );" );
+        pw.println( "        b.appendChild( document.createTextNode( label + ': ' ) );" );
+        pw.println( "        p.appendChild( b );" );
+        pw.println( "        for( var i = 0; i < values.length; i++ )" );
+        pw.println( "        {" );
+        pw.println( "          if( i > 0 )" );
+        pw.println( "          {" );
+        pw.println( "            p.appendChild( document.createTextNode( ', ' ) );" );
+        pw.println( "          }" );
+        pw.println( "          var value = values[i];" );
+        pw.println( "          if( typeof value == 'string' )" );
+        pw.println( "          {" );
+        pw.println( "            p.appendChild( document.createTextNode( value ) );" );
+        pw.println( "            continue;" );
+        pw.println( "          }" );
+        pw.println( "          var node = document.createTextNode( value.name || dependencyDetailsLabels.unnamed );" );
+        pw.println( "          if( value.url )" );
+        pw.println( "          {" );
+        pw.println( "            var a = document.createElement( 'a' );" );
+        pw.println( "            a.href = value.url;" );
+        pw.println( "            a.appendChild( node );" );
+        pw.println( "            node = a;" );
+        pw.println( "          }" );
+        pw.println( "          p.appendChild( node );" );
+        pw.println( "        }" );
+        pw.println( "        cell.appendChild( p );" );
+        pw.println( "      }" );
+    }
+
     private void renderSectionDependencyFileDetails()
     {
         startSection( getI18nString( "file.details.title" ) );
@@ -498,6 +662,20 @@ public class DependenciesRenderer
 
         resolveAtrifacts( alldeps );
 
+        if ( configuration.getDependencyDetailsThreads() > 1 )
+        {
+            List<Artifact> jars = new ArrayList<Artifact>();
+            for ( Artifact artifact : alldeps )
+            {
+                if ( artifact.getFile() != null && JAR_SUBTYPE.contains( artifact.getType().toLowerCase() ) )
+                {
+                    jars.add( artifact );
+                }
+            }
+
+            dependencies.analyzeJarDependencies( jars, configuration.getDependencyDetailsThreads() );
+        }
+
         // i18n
         String filename = getI18nString( "file.details.column.file" );
         String size = getI18nString( "file.details.column.size" );
@@ -565,7 +743,7 @@ public class DependenciesRenderer
             {
                 try
                 {
-                    JarData jarDetails = dependencies.getJarDependencyDetails( artifact );
+                    JarDetails jarDetails = dependencies.getJarDetails( artifact );
 
                     String debugInformationCellValue = debugInformationCellNo;
                     if ( jarDetails.isDebugPresent() )
@@ -791,7 +969,7 @@ public class DependenciesRenderer
 
         String url =
             ProjectInfoReportUtils.getArtifactUrl( artifactFactory, artifact, mavenProjectBuilder, remoteRepositories,
-                                                   localRepository );
+                                                   localRepository, repoUtils.getMavenProjectCache() );
         String artifactIdCell = ProjectInfoReportUtils.getArtifactIdCell( artifact.getArtifactId(), url );
 
         MavenProject artifactProject;
@@ -828,51 +1006,187 @@ public class DependenciesRenderer
         tableRow( withOptional, content );
     }
 
-    private void printDependencyListing( DependencyNode node )
+    /**
+     * @param node a node of the dependency tree
+     * @return the children of the node that are dependencies of the project
+     */
+    private List<DependencyNode> getIncludedChildren( DependencyNode node )
     {
-        Artifact artifact = node.getArtifact();
-        String id = artifact.getId();
-        String dependencyDetailId = "_dep" + idCounter++;
-        String imgId = "_img" + idCounter++;
+        if ( includedArtifacts == null )
+        {
+            includedArtifacts = new HashSet<Artifact>( dependencies.getAllDependencies() );
+        }
 
-        sink.listItem();
+        List<DependencyNode> subList = new ArrayList<DependencyNode>();
+        for ( DependencyNode dep : node.getChildren() )
+        {
+            if ( includedArtifacts.contains( dep.getArtifact() ) )
+            {
+                subList.add( dep );
+            }
+        }
+        return subList;
+    }
 
-        sink.text( id + ( StringUtils.isNotEmpty( artifact.getScope() ) ? " (" + artifact.getScope() + ") " : " " ) );
+    /**
+     * @param artifact not null
+     * @return the text of the artifact in the dependency tree
+     */
+    private static String getTreeLabel( Artifact artifact )
+    {
+        String scope = artifact.getScope();
+        return artifact.getId() + ( StringUtils.isNotEmpty( scope ) ? " (" + scope + ") " : " " );
+    }
 
-        String javascript = String.format( "<img id=\"%s\" src=\"%s\" alt=\"%s\""
-                + " onclick=\"toggleDependencyDetails( '%s', '%s' );\""
-                + " style=\"cursor: pointer; vertical-align: text-bottom;\"></img>",
-                imgId, IMG_INFO_URL, getI18nString( "graph.icon.information" ), dependencyDetailId, imgId );
+    /**
+     * Give the same id to the nodes rendered with the same text and the same children, from the leaves up.
+     *
+     * @param root the root of the dependency tree
+     */
+    private void computeSubtreeIds( DependencyNode root )
+    {
+        Map<String, Integer> ids = new HashMap<String, Integer>();
 
-        sink.rawText( javascript );
+        // post order with an explicit stack, the signature of a node is completed by the ids of its children
+        Deque<SubtreeSignature> stack = new ArrayDeque<SubtreeSignature>();
+        stack.push( new SubtreeSignature( root, getIncludedChildren( root ) ) );
+        while ( !stack.isEmpty() )
+        {
+            SubtreeSignature top = stack.peek();
+            if ( top.children.hasNext() )
+            {
+                DependencyNode child = top.children.next();
+                stack.push( new SubtreeSignature( child, getIncludedChildren( child ) ) );
+                continue;
+            }
+            stack.pop();
 
-        printDescriptionsAndURLs( node, dependencyDetailId );
+            String key = top.signature.toString();
+            Integer id = ids.get( key );
+            if ( id == null )
+            {
+                id = ids.size();
+                ids.put( key, id );
+            }
+            else
+            {
+                repeatedSubtrees.add( id );
+            }
+            subtreeIds.put( top.node, id );
 
-        if ( !node.getChildren().isEmpty() )
-        {
-            boolean toBeIncluded = false;
-            List<DependencyNode> subList = new ArrayList<DependencyNode>();
-            for ( DependencyNode dep : node.getChildren() )
+            if ( !stack.isEmpty() )
             {
-                if ( dependencies.getAllDependencies().contains( dep.getArtifact() ) )
-                {
-                    subList.add( dep );
-                    toBeIncluded = true;
-                }
+                stack.peek().signature.append( ' ' ).append( id );
             }
+        }
+    }
+
+    /**
+     * Print the dependency tree depth first, with an explicit stack of the children still to print so that a deep
+     * tree does not overflow the thread stack.
+     *
+     * @param root the root of the dependency tree
+     */
+    private void printDependencyListing( DependencyNode root )
+    {
+        Deque<Iterator<DependencyNode>> stack = new ArrayDeque<Iterator<DependencyNode>>();
+
+        List<DependencyNode> children = startDependencyListing( root );
+        if ( children != null )
+        {
+            stack.push( children.iterator() );
+        }
 
-            if ( toBeIncluded )
+        while ( !stack.isEmpty() )
+        {
+            Iterator<DependencyNode> it = stack.peek();
+            if ( it.hasNext() )
             {
-                sink.list();
-                for ( DependencyNode dep : subList )
+                children = startDependencyListing( it.next() );
+                if ( children != null )
                 {
-                    printDependencyListing( dep );
+                    stack.push( children.iterator() );
                 }
+            }
+            else
+            {
+                stack.pop();
                 sink.list_();
+                sink.listItem_();
+            }
+        }
+    }
+
+    /**
+     * Print a node of the dependency tree, and start the list of its children if any.
+     *
+     * @param node a node of the dependency tree
+     * @return the children to print before ending the list and the node, or null if the node is already ended
+     */
+    private List<DependencyNode> startDependencyListing( DependencyNode node )
+    {
+        Artifact artifact = node.getArtifact();
+        List<DependencyNode> subList = getIncludedChildren( node );
+
+        sink.listItem();
+
+        sink.text( getTreeLabel( artifact ) );
+
+        Integer subtreeId = ( subtreeIds != null && !subList.isEmpty() ) ? subtreeIds.get( node ) : null;
+        if ( subtreeId != null && repeatedSubtrees.contains( subtreeId ) )
+        {
+            String anchor = subtreeAnchors.get( subtreeId );
+            if ( anchor != null )
+            {
+                // the same subtree was already rendered
+                sink.link( "#" + anchor );
+                sink.text( getI18nString( "graph.tree.seeabove" ) );
+                sink.link_();
+                sink.listItem_();
+                return null;
             }
+
+            anchor = "dependencySubtree" + subtreeId;
+            subtreeAnchors.put( subtreeId, anchor );
+            sink.anchor( anchor );
+            sink.anchor_();
+        }
+
+        String dependencyDetailId = "_dep" + idCounter++;
+        String imgId = "_img" + idCounter++;
+
+        String key = null;
+        if ( treeDetails != null )
+        {
+            key = artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
         }
 
-        sink.listItem_();
+        String javascript = String.format( "<img id=\"%s\" src=\"%s\" alt=\"%s\""
+                + " onclick=\"toggleDependencyDetails( '%s', '%s'%s );\""
+                + " style=\"cursor: pointer; vertical-align: text-bottom;\"></img>",
+                imgId, IMG_INFO_URL, getI18nString( "graph.icon.information" ), dependencyDetailId, imgId,
+                key == null ? "" : ", " + HtmlTools.escapeHTML( DependencyTreeDetails.quote( key ) ) );
+
+        sink.rawText( javascript );
+
+        if ( treeDetails != null )
+        {
+            sink.rawText( "<div id=\"" + dependencyDetailId + "\" style=\"display:none\"></div>" );
+            addTreeDetails( artifact, key );
+        }
+        else
+        {
+            printDescriptionsAndURLs( node, dependencyDetailId );
+        }
+
+        if ( subList.isEmpty() )
+        {
+            sink.listItem_();
+            return null;
+        }
+
+        sink.list();
+        return subList;
     }
 
     private void printDescriptionsAndURLs( DependencyNode node, String uid )
@@ -1026,6 +1340,67 @@ public class DependenciesRenderer
         sink.rawText( "</div>" );
     }
 
+    /**
+     * Add the details of an artifact of the dependency tree, the first time it is met.
+     *
+     * @param artifact not null
+     * @param key the key of the artifact in {@link #treeDetails}, not null
+     */
+    private void addTreeDetails( Artifact artifact, String key )
+    {
+        if ( treeDetails.contains( key ) )
+        {
+            return;
+        }
+
+        if ( Artifact.SCOPE_SYSTEM.equals( artifact.getScope() ) )
+        {
+            String path = ( artifact.getFile() != null ) ? artifact.getFile().getAbsolutePath() : null;
+            treeDetails.add( key, artifact.getId(), null, path, false, null );
+            return;
+        }
+
+        try
+        {
+            MavenProject artifactProject = repoUtils.getMavenProjectFromRepository( artifact );
+            String artifactDescription = artifactProject.getDescription();
+            String artifactUrl = artifactProject.getUrl();
+            String artifactName = artifactProject.getName();
+            @SuppressWarnings( "unchecked" )
+            List<License> licenses = artifactProject.getLicenses();
+
+            if ( StringUtils.isEmpty( artifactDescription ) )
+            {
+                artifactDescription = null;
+            }
+            if ( StringUtils.isEmpty( artifactUrl ) )
+            {
+                artifactUrl = null;
+            }
+            treeDetails.add( key, artifactName, artifactDescription, artifactUrl,
+                             ProjectInfoReportUtils.isArtifactUrlValid( artifactUrl ), licenses );
+
+            if ( licenses.isEmpty() )
+            {
+                licenseMap.put( getI18nString( "graph.tables.unknown" ), artifactName );
+            }
+            for ( License license : licenses )
+            {
+                String licenseName = license.getName();
+                if ( StringUtils.isEmpty( licenseName ) )
+                {
+                    licenseName = getI18nString( "unnamed" );
+                }
+                licenseMap.put( licenseName, artifactName );
+            }
+        }
+        catch ( ProjectBuildingException e )
+        {
+            log.warn( "Unable to create Maven project from repository for artifact " + artifact.getId(), e );
+            treeDetails.add( key, artifact.getId(), null, null, false, null );
+        }
+    }
+
     private void printGroupedLicenses()
     {
         for ( Map.Entry<String, Object> entry : licenseMap.entrySet() )
@@ -1156,7 +1531,7 @@ public class DependenciesRenderer
             {
                 try
                 {
-                    JarData jarDetails = dependencies.getJarDependencyDetails( artifact );
+                    JarDetails jarDetails = dependencies.getJarDetails( artifact );
                     if ( jarDetails.isSealed() )
                     {
                         return true;
@@ -1171,6 +1546,26 @@ public class DependenciesRenderer
         return false;
     }
 
+    /**
+     * A node of the dependency tree being visited by {@link #computeSubtreeIds(DependencyNode)}.
+     */
+    private static class SubtreeSignature
+    {
+        private final DependencyNode node;
+
+        private final Iterator<DependencyNode> children;
+
+        /** The text of the node followed by the ids of the subtrees of the children already visited */
+        private final StringBuilder signature;
+
+        SubtreeSignature( DependencyNode node, List<DependencyNode> children )
+        {
+            this.node = node;
+            this.children = children.iterator();
+            this.signature = new StringBuilder( getTreeLabel( node.getArtifact() ) );
+        }
+    }
+
     // CHECKSTYLE_OFF: LineLength
     /**
      * Formats file length with the associated <a href="https://en.wikipedia.org/wiki/Metric_prefix">SI</a> prefix
@@ -255,7 +255,8 @@ public class DependencyManagementRenderer
 
             url =
                 ProjectInfoReportUtils.getArtifactUrl( artifactFactory, artifact, mavenProjectBuilder,
-                                                       remoteRepositories, localRepository );
+                                                       remoteRepositories, localRepository,
+                                                       repoUtils.getMavenProjectCache() );
 
             MavenProject artifactProject = repoUtils.getMavenProjectFromRepository( artifact );
 
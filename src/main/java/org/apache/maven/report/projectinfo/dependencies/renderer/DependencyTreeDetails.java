@@ -0,0 +1,211 @@
+package org.apache.maven.report.projectinfo.dependencies.renderer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.model.License;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * The details of the nodes of the dependency tree, written once per distinct artifact into a JSON file loaded by the
+ * report page on demand, instead of being inlined for every node of the tree.
+ * <p>
+ * The file contains one object by <code>groupId:artifactId:version</code>, with the <code>name</code>,
+ * <code>description</code>, <code>url</code>, <code>link</code> and <code>licenses</code> of the artifact.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.10
+ */
+public class DependencyTreeDetails
+{
+    /** The name of the JSON file, in the output directory of the report */
+    public static final String FILE_NAME = "dependencies-details.json";
+
+    /** The details of the artifacts as JSON objects, by key */
+    private final Map<String, String> details = new LinkedHashMap<String, String>();
+
+    /**
+     * @param key the key of an artifact
+     * @return <code>true</code> if the details of the artifact were already added
+     */
+    public boolean contains( String key )
+    {
+        return details.containsKey( key );
+    }
+
+    /**
+     * @param key the key of the artifact, not null
+     * @param name the name of the artifact, not null
+     * @param description the description of the artifact, could be null
+     * @param url the URL of the artifact or the path of its file, could be null
+     * @param link <code>true</code> if the URL should be rendered as a link
+     * @param licenses the licenses of the artifact, could be null if unknown
+     */
+    public void add( String key, String name, String description, String url, boolean link, List<License> licenses )
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "{\"name\":" ).append( quote( name ) );
+        if ( description != null )
+        {
+            sb.append( ",\"description\":" ).append( quote( description ) );
+        }
+        if ( url != null )
+        {
+            sb.append( ",\"url\":" ).append( quote( url ) ).append( ",\"link\":" ).append( link );
+        }
+        if ( licenses != null )
+        {
+            sb.append( ",\"licenses\":[" );
+            for ( Iterator<License> it = licenses.iterator(); it.hasNext(); )
+            {
+                License license = it.next();
+                sb.append( "{\"name\":" ).append( quote( license.getName() ) );
+                if ( license.getUrl() != null )
+                {
+                    sb.append( ",\"url\":" ).append( quote( license.getUrl() ) );
+                }
+                sb.append( '}' );
+                if ( it.hasNext() )
+                {
+                    sb.append( ',' );
+                }
+            }
+            sb.append( ']' );
+        }
+        sb.append( '}' );
+
+        details.put( key, sb.toString() );
+    }
+
+    /**
+     * @return the number of artifacts
+     */
+    public int size()
+    {
+        return details.size();
+    }
+
+    /**
+     * @param writer not null
+     * @throws IOException if any
+     */
+    public void write( Writer writer )
+        throws IOException
+    {
+        writer.write( '{' );
+        for ( Iterator<Map.Entry<String, String>> it = details.entrySet().iterator(); it.hasNext(); )
+        {
+            Map.Entry<String, String> entry = it.next();
+            writer.write( '\n' );
+            writer.write( quote( entry.getKey() ) );
+            writer.write( ':' );
+            writer.write( entry.getValue() );
+            if ( it.hasNext() )
+            {
+                writer.write( ',' );
+            }
+        }
+        writer.write( "\n}\n" );
+    }
+
+    /**
+     * @param file the JSON file, not null
+     * @throws IOException if any
+     */
+    public void write( File file )
+        throws IOException
+    {
+        Writer writer = null;
+        try
+        {
+            file.getParentFile().mkdirs();
+            writer = new OutputStreamWriter( new FileOutputStream( file ), "UTF-8" );
+            write( writer );
+            writer.close();
+            writer = null;
+        }
+        finally
+        {
+            IOUtil.close( writer );
+        }
+    }
+
+    /**
+     * Quote a string as a JSON string, that is also a JavaScript string literal safe to inline in a
+     * <code>&lt;script&gt;</code> element.
+     *
+     * @param s could be null
+     * @return the quoted string, or <code>null</code> if the string is null
+     */
+    static String quote( String s )
+    {
+        if ( s == null )
+        {
+            return "null";
+        }
+
+        StringBuilder sb = new StringBuilder( s.length() + 2 );
+        sb.append( '"' );
+        for ( int i = 0; i < s.length(); i++ )
+        {
+            char c = s.charAt( i );
+            switch ( c )
+            {
+                case '"':
+                    sb.append( "\\\"" );
+                    break;
+                case '\\':
+                    sb.append( "\\\\" );
+                    break;
+                case '\n':
+                    sb.append( "\\n" );
+                    break;
+                case '\r':
+                    sb.append( "\\r" );
+                    break;
+                case '\t':
+                    sb.append( "\\t" );
+                    break;
+                default:
+                    if ( c < 0x20 || c == '<' || c == '>' || c == '&' || c == '\u2028' || c == '\u2029' )
+                    {
+                        sb.append( String.format( "\\u%04x", (int) c ) );
+                    }
+                    else
+                    {
+                        sb.append( c );
+                    }
+                    break;
+            }
+        }
+        sb.append( '"' );
+        return sb.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import junit.framework.TestCase;
+
+/**
+ * Micro benchmark of the markup detection of the renderers against the regular expression used before. Only run with
+ * the <code>benchmark</code> profile, the timings are printed.
+ *
+ * @version $Id$
+ * @see AbstractProjectInfoRendererTest
+ */
+public class AbstractProjectInfoRendererBenchmark
+    extends TestCase
+{
+    private static final int WARMUPS = 5;
+
+    private static final int ITERATIONS = 10;
+
+    private static final int CALLS = 1000;
+
+    public void testIsMarkup()
+    {
+        StringBuilder longText = new StringBuilder();
+        // much longer texts overflow the stack of the regular expression
+        for ( int i = 0; i < 40; i++ )
+        {
+            longText.append( "if a < b then " );
+        }
+        String[] texts = new String[AbstractProjectInfoRendererTest.DESCRIPTIONS.length + 1];
+        System.arraycopy( AbstractProjectInfoRendererTest.DESCRIPTIONS, 0, texts, 0, texts.length - 1 );
+        texts[texts.length - 1] = longText.toString();
+
+        long linear = 0;
+        long regex = 0;
+        for ( int iteration = 0; iteration < WARMUPS + ITERATIONS; iteration++ )
+        {
+            int linearMatches = 0;
+            long start = System.nanoTime();
+            for ( int i = 0; i < CALLS; i++ )
+            {
+                for ( String text : texts )
+                {
+                    if ( AbstractProjectInfoRenderer.isMarkup( text ) )
+                    {
+                        linearMatches++;
+                    }
+                }
+            }
+            long linearTime = System.nanoTime() - start;
+
+            int regexMatches = 0;
+            start = System.nanoTime();
+            for ( int i = 0; i < CALLS; i++ )
+            {
+                for ( String text : texts )
+                {
+                    if ( AbstractProjectInfoRendererTest.MARKUP.matcher( text ).matches() )
+                    {
+                        regexMatches++;
+                    }
+                }
+            }
+            long regexTime = System.nanoTime() - start;
+
+            assertEquals( regexMatches, linearMatches );
+            if ( iteration >= WARMUPS )
+            {
+                linear += linearTime;
+                regex += regexTime;
+            }
+        }
+
+        System.out.println( "Markup detection of " + CALLS + " x " + texts.length + " texts: isMarkup "
+            + linear / ITERATIONS / 1000000 + " ms, regular expression " + regex / ITERATIONS / 1000000 + " ms" );
+    }
+}
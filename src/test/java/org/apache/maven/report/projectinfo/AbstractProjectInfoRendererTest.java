@@ -0,0 +1,87 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+/**
+ * @version $Id$
+ */
+public class AbstractProjectInfoRendererTest
+    extends TestCase
+{
+    /** The expression previously used to detect markup */
+    static final Pattern MARKUP = Pattern.compile( "(.+?)<(\"[^\"]*\"|'[^']*'|[^'\">])*>(.+?)" );
+
+    static final String[] DESCRIPTIONS = {
+        "Apache Commons Lang, a package of Java utility classes for the classes that are in java.lang's hierarchy.",
+        "See the <a href=\"http://maven.apache.org/\">Maven site</a> for more information.",
+        "Use <code>mvn site</code> to generate the reports.",
+        "Returns true if a < b and b > c.",
+        "A description with an 'unclosed <quote> and some text.",
+        "Multi-line\ndescription with <b>markup</b> in the middle\nof it.",
+        "<b>starts</b> with markup",
+        "ends with <br/>",
+        "List<String> getValues() returns a List<Map<String, Object>> of the values, if x < y for all the entries.",
+        "Attributes with quotes: <a title='single \"quoted\" >' href=\"x > y\">link</a> done",
+        "",
+        "x<>y",
+        "a<\">\"b",
+    };
+
+    public void testSameResultAsRegularExpression()
+    {
+        for ( String description : DESCRIPTIONS )
+        {
+            assertEquals( description, MARKUP.matcher( description ).matches(),
+                          AbstractProjectInfoRenderer.isMarkup( description ) );
+        }
+
+        Random random = new Random( 0 );
+        char[] alphabet = { 'a', ' ', '<', '>', '"', '\'', '\n', '\r', ' ', '/', '=' };
+        for ( int i = 0; i < 100000; i++ )
+        {
+            char[] chars = new char[random.nextInt( 12 )];
+            for ( int j = 0; j < chars.length; j++ )
+            {
+                chars[j] = alphabet[random.nextInt( alphabet.length )];
+            }
+            String text = new String( chars );
+            assertEquals( text, MARKUP.matcher( text ).matches(), AbstractProjectInfoRenderer.isMarkup( text ) );
+        }
+    }
+
+    public void testLongText()
+    {
+        StringBuilder longText = new StringBuilder();
+        // much longer texts overflow the stack of the regular expression
+        for ( int i = 0; i < 40; i++ )
+        {
+            longText.append( "if a < b then " );
+        }
+        String text = longText.toString();
+
+        assertEquals( MARKUP.matcher( text ).matches(), AbstractProjectInfoRenderer.isMarkup( text ) );
+        assertFalse( AbstractProjectInfoRenderer.isMarkup( text ) );
+    }
+}
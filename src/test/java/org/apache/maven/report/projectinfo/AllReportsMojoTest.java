@@ -0,0 +1,225 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptorBuilder;
+import org.apache.maven.report.projectinfo.stubs.DependencyGraphBuilderStub;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.codehaus.plexus.component.repository.ComponentRequirement;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.ReaderFactory;
+
+/**
+ * @version $Id$
+ */
+public class AllReportsMojoTest
+    extends AbstractProjectInfoTestCase
+{
+    /**
+     * Test the generation of several reports in one execution
+     *
+     * @throws Exception if any
+     */
+    public void testReports()
+        throws Exception
+    {
+        AllReportsMojo mojo = createMojo( readPluginDescriptor() );
+
+        mojo.execute();
+
+        File outputDirectory = new File( getBasedir(), "target/test-harness/all" );
+        assertTrue( "Team report generated", new File( outputDirectory, "team-list.html" ).exists() );
+        assertTrue( "Summary report generated", new File( outputDirectory, "project-summary.html" ).exists() );
+        assertFalse( "Index report not generated", new File( outputDirectory, "index.html" ).exists() );
+    }
+
+    /**
+     * Test that the dependency tree is resolved once, before the generation of the reports
+     *
+     * @throws Exception if any
+     */
+    public void testDependencyTreeResolvedOnce()
+        throws Exception
+    {
+        AllReportsMojo mojo = createMojo( readPluginDescriptor() );
+        setVariableValueToObject( mojo, "reportGoals", Arrays.asList( "dependencies", "license" ) );
+        DependencyGraphBuilderStub builder = new DependencyGraphBuilderStub()
+        {
+            @Override
+            protected List<DependencyNode> createChildren( DependencyNode root )
+            {
+                return Collections.<DependencyNode>singletonList(
+                    createNode( root, "junit", "junit", "3.8.1", Artifact.SCOPE_TEST ) );
+            }
+        };
+        setVariableValueToObject( mojo, "dependencyGraphBuilder", builder );
+
+        mojo.execute();
+
+        File outputDirectory = new File( getBasedir(), "target/test-harness/all" );
+        assertTrue( "Dependencies report generated", new File( outputDirectory, "dependencies.html" ).exists() );
+        assertTrue( "Licenses report generated", new File( outputDirectory, "license.html" ).exists() );
+        assertEquals( 1, builder.getBuildCount() );
+    }
+
+    /**
+     * Each parameter and component of a report must be declared in the goal <code>all</code>, with the same type and
+     * the same default value, otherwise the report would not be configured as when run alone.
+     *
+     * @throws Exception if any
+     */
+    public void testReportParameters()
+        throws Exception
+    {
+        PluginDescriptor pluginDescriptor = readPluginDescriptor();
+        MojoDescriptor all = pluginDescriptor.getMojo( "all" );
+        Map<String, ComponentRequirement> allRequirements = getRequirements( all );
+
+        for ( String goal : AllReportsMojo.getReportGoals() )
+        {
+            MojoDescriptor report = pluginDescriptor.getMojo( goal );
+            assertNotNull( goal, report );
+
+            for ( Object o : report.getParameters() )
+            {
+                Parameter parameter = (Parameter) o;
+                String name = goal + ": " + parameter.getName();
+
+                Parameter allParameter = (Parameter) all.getParameterMap().get( parameter.getName() );
+                assertNotNull( name + " is not a parameter of the goal all", allParameter );
+                assertEquals( name, parameter.getType(), allParameter.getType() );
+                assertEquals( name, parameter.isRequired(), allParameter.isRequired() );
+
+                assertEquals( name, getValue( report, parameter.getName() ), getValue( all, parameter.getName() ) );
+            }
+
+            for ( ComponentRequirement requirement : getRequirements( report ).values() )
+            {
+                String name = goal + ": " + requirement.getFieldName();
+
+                ComponentRequirement allRequirement = allRequirements.get( requirement.getFieldName() );
+                assertNotNull( name + " is not a component of the goal all", allRequirement );
+                assertEquals( name, requirement.getRole(), allRequirement.getRole() );
+                assertEquals( name, requirement.getRoleHint(), allRequirement.getRoleHint() );
+            }
+        }
+    }
+
+    /**
+     * A parameter of a report missing in the goal <code>all</code> must fail the generation, instead of being left to
+     * its Java default value.
+     *
+     * @throws Exception if any
+     */
+    public void testMissingParameter()
+        throws Exception
+    {
+        PluginDescriptor pluginDescriptor = readPluginDescriptor();
+        Parameter parameter = new Parameter();
+        parameter.setName( "inputEncodingTypo" );
+        parameter.setType( String.class.getName() );
+        pluginDescriptor.getMojo( "summary" ).addParameter( parameter );
+
+        AllReportsMojo mojo = createMojo( pluginDescriptor );
+        try
+        {
+            mojo.execute();
+            fail( "The missing parameter should fail the generation" );
+        }
+        catch ( MojoExecutionException e )
+        {
+            assertTrue( e.getMessage(), e.getMessage().contains( "inputEncodingTypo" ) );
+        }
+    }
+
+    private AllReportsMojo createMojo( PluginDescriptor pluginDescriptor )
+        throws Exception
+    {
+        File pluginXmlFile = new File( getBasedir(), "src/test/resources/plugin-configs/all-plugin-config.xml" );
+        AllReportsMojo mojo = (AllReportsMojo) lookupMojo( "all", pluginXmlFile );
+        assertNotNull( "Mojo found.", mojo );
+
+        // not evaluated by the test harness
+        setVariableValueToObject( mojo, "plugin", pluginDescriptor );
+        return mojo;
+    }
+
+    /**
+     * @return the descriptor generated for this plugin
+     * @throws Exception if any
+     */
+    private static PluginDescriptor readPluginDescriptor()
+        throws Exception
+    {
+        File pluginXml = new File( getBasedir(), "target/classes/META-INF/maven/plugin.xml" );
+        Reader reader = ReaderFactory.newXmlReader( pluginXml );
+        try
+        {
+            return new PluginDescriptorBuilder().build( reader );
+        }
+        finally
+        {
+            IOUtil.close( reader );
+        }
+    }
+
+    /**
+     * @return the expression of the parameter, then its default value, an expression alone being evaluated the same
+     *         as a default value alone
+     */
+    private static String getValue( MojoDescriptor descriptor, String parameter )
+        throws Exception
+    {
+        PlexusConfiguration configuration = descriptor.getMojoConfiguration().getChild( parameter );
+        String expression = configuration.getValue( null );
+        String defaultValue = configuration.getAttribute( "default-value", null );
+
+        if ( expression == null || defaultValue == null )
+        {
+            return expression == null ? defaultValue : expression;
+        }
+        return expression + " or " + defaultValue;
+    }
+
+    private static Map<String, ComponentRequirement> getRequirements( MojoDescriptor descriptor )
+    {
+        Map<String, ComponentRequirement> requirements = new HashMap<String, ComponentRequirement>();
+        for ( Object requirement : descriptor.getRequirements() )
+        {
+            requirements.put( ( (ComponentRequirement) requirement ).getFieldName(),
+                              (ComponentRequirement) requirement );
+        }
+        return requirements;
+    }
+}
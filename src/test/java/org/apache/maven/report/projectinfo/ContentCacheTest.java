@@ -0,0 +1,176 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.settings.Settings;
+import org.codehaus.plexus.util.FileUtils;
+import org.mortbay.jetty.Request;
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.handler.AbstractHandler;
+import org.mortbay.jetty.nio.SelectChannelConnector;
+
+/**
+ * @version $Id$
+ */
+public class ContentCacheTest
+    extends TestCase
+{
+    private static final String ETAG = "\"v1\"";
+
+    private Server jettyServer;
+
+    private int fullResponses;
+
+    private int notModifiedResponses;
+
+    private URL url;
+
+    private File directory;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        directory = new File( System.getProperty( "basedir", "." ), "target/unit/content-cache" );
+        FileUtils.deleteDirectory( directory );
+
+        jettyServer = new Server();
+        SelectChannelConnector connector = new SelectChannelConnector();
+        jettyServer.addConnector( connector );
+        jettyServer.setHandler( new AbstractHandler()
+        {
+            public void handle( String target, HttpServletRequest request, HttpServletResponse response,
+                                int dispatch )
+                throws IOException
+            {
+                if ( ETAG.equals( request.getHeader( "If-None-Match" ) ) )
+                {
+                    notModifiedResponses++;
+                    response.setStatus( HttpServletResponse.SC_NOT_MODIFIED );
+                }
+                else
+                {
+                    fullResponses++;
+                    response.setHeader( "ETag", ETAG );
+                    response.setContentType( "text/plain" );
+                    response.getWriter().print( "Apache License" );
+                }
+                ( (Request) request ).setHandled( true );
+            }
+        } );
+        jettyServer.start();
+
+        url = new URL( "http://localhost:" + connector.getLocalPort() + "/LICENSE-2.0.txt" );
+    }
+
+    @Override
+    protected void tearDown()
+        throws Exception
+    {
+        jettyServer.stop();
+        super.tearDown();
+    }
+
+    public void testFreshContentIsNotFetchedAgain()
+        throws Exception
+    {
+        ContentCache cache = new ContentCache( directory, 60000 );
+        Settings settings = new Settings();
+
+        assertEquals( "Apache License", ProjectInfoReportUtils.getContent( url, null, settings, null, cache ) );
+        assertEquals( "Apache License", ProjectInfoReportUtils.getContent( url, null, settings, null, cache ) );
+        assertEquals( 1, fullResponses );
+        assertEquals( 0, notModifiedResponses );
+
+        // another build
+        cache = new ContentCache( directory, 60000 );
+        assertEquals( "Apache License", ProjectInfoReportUtils.getContent( url, null, settings, null, cache ) );
+        assertEquals( 1, fullResponses );
+    }
+
+    public void testExpiredContentIsRevalidated()
+        throws Exception
+    {
+        ContentCache cache = new ContentCache( directory, 0 );
+        Settings settings = new Settings();
+
+        assertEquals( "Apache License", ProjectInfoReportUtils.getContent( url, null, settings, null, cache ) );
+        assertEquals( "Apache License", ProjectInfoReportUtils.getContent( url, null, settings, null, cache ) );
+        assertEquals( 1, fullResponses );
+        assertEquals( 1, notModifiedResponses );
+        assertEquals( ETAG, cache.get( url ).getEtag() );
+    }
+
+    public void testOffline()
+        throws Exception
+    {
+        Settings settings = new Settings();
+        settings.setOffline( true );
+
+        try
+        {
+            ProjectInfoReportUtils.getContent( url, null, settings, null, new ContentCache( directory, 0 ) );
+            fail( "Not cached content can not be read offline" );
+        }
+        catch ( IOException e )
+        {
+            assertEquals( 0, fullResponses );
+        }
+
+        settings.setOffline( false );
+        ProjectInfoReportUtils.getContent( url, null, settings, null, new ContentCache( directory, 0 ) );
+
+        settings.setOffline( true );
+        ContentCache cache = new ContentCache( directory, 0 );
+        assertEquals( "Apache License", ProjectInfoReportUtils.getContent( url, null, settings, null, cache ) );
+        assertEquals( 1, fullResponses );
+        assertEquals( 0, notModifiedResponses );
+    }
+
+    public void testEntryIsReplaced()
+        throws Exception
+    {
+        new ContentCache( directory, 60000 ).put( url, "\"v1\"", null, "first".getBytes( "UTF-8" ) );
+        new ContentCache( directory, 60000 ).put( url, "\"v2\"", null, "second".getBytes( "UTF-8" ) );
+
+        ContentCache.Entry entry = new ContentCache( directory, 60000 ).get( url );
+        assertEquals( "\"v2\"", entry.getEtag() );
+        assertEquals( "second", new String( entry.getContent(), "UTF-8" ) );
+
+        // the temporary files are renamed into place
+        String[] files = directory.list();
+        Arrays.sort( files );
+        assertEquals( 2, files.length );
+        assertTrue( files[0].endsWith( ".content" ) );
+        assertTrue( files[1].endsWith( ".properties" ) );
+    }
+}
@@ -0,0 +1,92 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.Locale;
+
+import org.codehaus.plexus.i18n.I18N;
+
+/**
+ * Test the I18N using a custom bundle.
+ *
+ * @version $Id$
+ */
+public class CustomI18NTest
+    extends AbstractProjectInfoTestCase
+{
+    /**
+     * Test that the expressions of the custom bundle are interpolated once per locale and key
+     *
+     * @throws Exception if any
+     */
+    public void testInterpolation()
+        throws Exception
+    {
+        AbstractProjectInfoReport mojo = createCustomBundleMojo();
+
+        assertEquals( "About index project info", mojo.getI18nString( Locale.ENGLISH, "title" ) );
+
+        // the value already interpolated is kept
+        mojo.project.setName( "renamed project" );
+        assertEquals( "About index project info", mojo.getI18nString( Locale.ENGLISH, "title" ) );
+
+        // interpolated for the other locale, from its own bundle
+        assertEquals( "A propos de renamed project", mojo.getI18nString( Locale.FRENCH, "title" ) );
+        assertEquals( "About index project info", mojo.getI18nString( Locale.ENGLISH, "title" ) );
+
+        // the interpolated values of an instance are kept by bundle name, locale and key
+        I18N i18n = mojo.getI18N( Locale.ENGLISH );
+        assertEquals( "About renamed project",
+                      i18n.getString( "project-info-reports", Locale.GERMAN, "report.index.title" ) );
+        assertEquals( "About index project info",
+                      i18n.getString( "project-info-reports", Locale.ENGLISH, "report.index.title" ) );
+    }
+
+    /**
+     * Test that the I18N using the custom bundle is created once per locale
+     *
+     * @throws Exception if any
+     */
+    public void testInstancePerLocale()
+        throws Exception
+    {
+        AbstractProjectInfoReport mojo = createCustomBundleMojo();
+
+        I18N english = mojo.getI18N( Locale.ENGLISH );
+        I18N french = mojo.getI18N( Locale.FRENCH );
+        assertNotSame( getVariableValueFromObject( mojo, "i18n" ), english );
+        assertSame( english, mojo.getI18N( Locale.ENGLISH ) );
+        assertSame( french, mojo.getI18N( Locale.FRENCH ) );
+        assertNotSame( english, french );
+        assertEquals( "en", english.getDefaultLanguage() );
+        assertEquals( "fr", french.getDefaultLanguage() );
+    }
+
+    private AbstractProjectInfoReport createCustomBundleMojo()
+        throws Exception
+    {
+        File pluginXmlFile = new File( getBasedir(), "src/test/resources/plugin-configs/index-plugin-config.xml" );
+        AbstractProjectInfoReport mojo = createReportMojo( "index", pluginXmlFile );
+        File customBundle = new File( getBasedir(), "src/test/resources/custom-bundle/custom-bundle.properties" );
+        setVariableValueToObject( mojo, "customBundle", customBundle.getAbsolutePath() );
+        return mojo;
+    }
+}
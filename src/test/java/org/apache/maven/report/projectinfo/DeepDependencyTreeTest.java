@@ -0,0 +1,99 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.report.projectinfo.stubs.DependencyGraphBuilderStub;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * Checks that a very deep dependency tree is rendered without overflowing the thread stack, with a stub graph builder
+ * since the default one does not work in the test harness, see {@link DependenciesReportTest}.
+ *
+ * @version $Id$
+ */
+public class DeepDependencyTreeTest
+    extends AbstractProjectInfoTestCase
+{
+    private static final int DEPTH = 3000;
+
+    /**
+     * @throws Exception if any
+     */
+    public void testDeepDependencyTree()
+        throws Exception
+    {
+        renderDeepDependencyTree( false );
+    }
+
+    /**
+     * @throws Exception if any
+     */
+    public void testDeepDeduplicatedDependencyTree()
+        throws Exception
+    {
+        renderDeepDependencyTree( true );
+    }
+
+    private void renderDeepDependencyTree( boolean deduplicate )
+        throws Exception
+    {
+        File pluginXmlFile =
+            new File( getBasedir(), "src/test/resources/plugin-configs/dependencies-plugin-config.xml" );
+        AbstractProjectInfoReport mojo = createReportMojo( "dependencies", pluginXmlFile );
+
+        setVariableValueToObject( mojo, "dependencyGraphBuilder", new ChainGraphBuilder() );
+        setVariableValueToObject( mojo, "dependencyTreeDeduplicate", Boolean.valueOf( deduplicate ) );
+
+        mojo.execute();
+
+        File report = new File( getBasedir(), "target/test-harness/dependencies/dependencies.html" );
+        assertTrue( "Test html generated", report.exists() );
+        String content = FileUtils.fileRead( report, "UTF-8" );
+        assertTrue( content.contains( "deep:level" + ( DEPTH - 1 ) + ":jar:1.0 (system)" ) );
+    }
+
+    /**
+     * Builds a chain of system dependencies, so that no POM is read to render the details of the nodes.
+     */
+    private static class ChainGraphBuilder
+        extends DependencyGraphBuilderStub
+    {
+        @Override
+        protected List<DependencyNode> createChildren( DependencyNode root )
+        {
+            DefaultDependencyNode first = createNode( root, "deep", "level0", "1.0", Artifact.SCOPE_SYSTEM );
+            DefaultDependencyNode parent = first;
+            for ( int i = 1; i < DEPTH; i++ )
+            {
+                DefaultDependencyNode node = createNode( parent, "deep", "level" + i, "1.0", Artifact.SCOPE_SYSTEM );
+                parent.setChildren( Collections.<DependencyNode>singletonList( node ) );
+                parent = node;
+            }
+            return Collections.<DependencyNode>singletonList( first );
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.DependencyConvergenceReport.DescendantsVisitor;
+import org.apache.maven.report.projectinfo.DependencyConvergenceReport.ReverseDependencyLink;
+import org.apache.maven.report.projectinfo.dependencies.DependencyVersionMap;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+
+/**
+ * Checks the dependency convergence analysis on a synthetic reactor against the previous algorithms.
+ *
+ * @version $Id$
+ */
+public class DependencyConvergenceAnalysisTest
+    extends TestCase
+{
+    private static final int MODULES = 20;
+
+    private static final int DEPENDENCIES = 50;
+
+    /** Each module uses its own version of the shared dependencies, the worst case for the reverse links */
+    private static final int VERSIONS = MODULES;
+
+    private final List<MavenProject> reactorProjects = new ArrayList<MavenProject>();
+
+    private final List<DependencyNode> nodes = new ArrayList<DependencyNode>();
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        for ( int i = 0; i < MODULES; i++ )
+        {
+            Model model = new Model();
+            model.setGroupId( ArtifactStubs.GROUP_ID );
+            model.setArtifactId( "module-" + i );
+            model.setVersion( "1.0" );
+            reactorProjects.add( new MavenProject( model ) );
+
+            DependencyNode root = ArtifactStubs.createNode( "module-" + i, "1.0" );
+            for ( int j = 0; j < DEPENDENCIES; j++ )
+            {
+                root.addChild( ArtifactStubs.createNode( "lib-" + j, "1." + ( i % VERSIONS ) ) );
+            }
+            nodes.add( root );
+        }
+    }
+
+    public void testAllDependencyMap()
+    {
+        DependencyConvergenceReport report = new DependencyConvergenceReport();
+
+        List<Set<Artifact>> descendants = new ArrayList<Set<Artifact>>();
+        for ( DependencyNode node : nodes )
+        {
+            DescendantsVisitor visitor = new DescendantsVisitor();
+            node.accept( visitor );
+            descendants.add( visitor.getDescendants() );
+        }
+
+        Map<String, List<ReverseDependencyLink>> allDependencies = new TreeMap<String, List<ReverseDependencyLink>>();
+        Map<String, Set<String>> allDependencyVersions = new HashMap<String, Set<String>>();
+        for ( int i = 0; i < MODULES; i++ )
+        {
+            report.getAllDependencyMap( allDependencies, allDependencyVersions, reactorProjects.get( i ),
+                                        descendants.get( i ) );
+        }
+
+        Map<String, List<ReverseDependencyLink>> expected = new TreeMap<String, List<ReverseDependencyLink>>();
+        for ( int i = 0; i < MODULES; i++ )
+        {
+            addAllDependenciesWithLinearScan( expected, reactorProjects.get( i ), nodes.get( i ) );
+        }
+
+        assertEquals( DEPENDENCIES, allDependencies.size() );
+        assertEquals( expected.keySet(), allDependencies.keySet() );
+        for ( Map.Entry<String, List<ReverseDependencyLink>> entry : expected.entrySet() )
+        {
+            List<ReverseDependencyLink> links = allDependencies.get( entry.getKey() );
+            assertEquals( VERSIONS, links.size() );
+            for ( int i = 0; i < links.size(); i++ )
+            {
+                assertSame( entry.getValue().get( i ).getProject(), links.get( i ).getProject() );
+                assertEquals( entry.getValue().get( i ).getDependency().getVersion(),
+                              links.get( i ).getDependency().getVersion() );
+            }
+        }
+    }
+
+    /**
+     * The single walk should give the same results as a {@link DependencyVersionMap} and a full traversal.
+     */
+    public void testDescendantsVisitor()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "project", "1.0" );
+        DependencyNode a = ArtifactStubs.createNode( "a", "1.0" );
+        DependencyNode conflicting = ArtifactStubs.createNode( "a", "2.0" );
+        DependencyNode b = ArtifactStubs.createNode( "b", "1.0" );
+        root.addChild( a );
+        root.addChild( b );
+        b.addChild( conflicting );
+        // not visited by the version map, the parent node is in conflict
+        conflicting.addChild( ArtifactStubs.createNode( "c", "1.0" ) );
+        conflicting.addChild( ArtifactStubs.createNode( "c", "2.0" ) );
+        b.addChild( ArtifactStubs.createNode( "c", "3.0" ) );
+
+        DescendantsVisitor visitor = new DescendantsVisitor();
+        root.accept( visitor );
+
+        DependencyVersionMap expected = new DependencyVersionMap();
+        expected.setUniqueVersions( true );
+        root.accept( expected );
+
+        assertEquals( 6, visitor.getDescendants().size() );
+        assertFalse( visitor.getDescendants().contains( root.getArtifact() ) );
+        assertEquals( expected.getConflictedVersionNumbers(), visitor.getVersionMap().getConflictedVersionNumbers() );
+        assertEquals( 1, visitor.getVersionMap().getConflictedVersionNumbers().size() );
+    }
+
+    /**
+     * The algorithm used before the versions index: each artifact is looked up in the whole list of links.
+     */
+    static void addAllDependenciesWithLinearScan( Map<String, List<ReverseDependencyLink>> allDependencies,
+                                                  MavenProject reactorProject, DependencyNode node )
+    {
+        for ( Object child : node.getChildren() )
+        {
+            Artifact art = ( (DependencyNode) child ).getArtifact();
+            String key = art.getGroupId() + ":" + art.getArtifactId();
+
+            List<ReverseDependencyLink> links = allDependencies.get( key );
+            if ( links == null )
+            {
+                links = new ArrayList<ReverseDependencyLink>();
+                allDependencies.put( key, links );
+            }
+
+            boolean found = false;
+            for ( ReverseDependencyLink link : links )
+            {
+                Dependency dep = link.getDependency();
+                if ( dep.getGroupId().equals( art.getGroupId() ) && dep.getArtifactId().equals( art.getArtifactId() )
+                    && dep.getVersion().equals( art.getVersion() ) )
+                {
+                    found = true;
+                    break;
+                }
+            }
+
+            if ( !found )
+            {
+                Dependency dependency = new Dependency();
+                dependency.setGroupId( art.getGroupId() );
+                dependency.setArtifactId( art.getArtifactId() );
+                dependency.setVersion( art.getVersion() );
+                links.add( new ReverseDependencyLink( dependency, reactorProject ) );
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.DependencyConvergenceReport.DescendantsVisitor;
+import org.apache.maven.report.projectinfo.DependencyConvergenceReport.ReverseDependencyLink;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+
+/**
+ * Micro benchmark of the reverse dependency links of the dependency convergence report on a large synthetic reactor,
+ * against the linear scan used before the versions index. Only run with the <code>benchmark</code> profile, the
+ * timings are printed.
+ *
+ * @version $Id$
+ * @see DependencyConvergenceAnalysisTest
+ */
+public class DependencyConvergenceBenchmark
+    extends TestCase
+{
+    private static final int MODULES = 200;
+
+    private static final int DEPENDENCIES = 500;
+
+    private static final int WARMUPS = 3;
+
+    private static final int ITERATIONS = 5;
+
+    private final List<MavenProject> reactorProjects = new ArrayList<MavenProject>();
+
+    private final List<DependencyNode> nodes = new ArrayList<DependencyNode>();
+
+    private final List<Set<Artifact>> descendants = new ArrayList<Set<Artifact>>();
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        for ( int i = 0; i < MODULES; i++ )
+        {
+            Model model = new Model();
+            model.setGroupId( ArtifactStubs.GROUP_ID );
+            model.setArtifactId( "module-" + i );
+            model.setVersion( "1.0" );
+            reactorProjects.add( new MavenProject( model ) );
+
+            // each module uses its own version of the shared dependencies, the worst case for the reverse links
+            DependencyNode root = ArtifactStubs.createNode( "module-" + i, "1.0" );
+            for ( int j = 0; j < DEPENDENCIES; j++ )
+            {
+                root.addChild( ArtifactStubs.createNode( "lib-" + j, "1." + i ) );
+            }
+            nodes.add( root );
+
+            DescendantsVisitor visitor = new DescendantsVisitor();
+            root.accept( visitor );
+            descendants.add( visitor.getDescendants() );
+        }
+    }
+
+    public void testAllDependencyMap()
+    {
+        long indexed = 0;
+        long linear = 0;
+        for ( int iteration = 0; iteration < WARMUPS + ITERATIONS; iteration++ )
+        {
+            long start = System.nanoTime();
+            Map<String, List<ReverseDependencyLink>> allDependencies = indexed();
+            long indexedTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Map<String, List<ReverseDependencyLink>> expected = linearScan();
+            long linearTime = System.nanoTime() - start;
+
+            assertEquals( expected.keySet(), allDependencies.keySet() );
+            if ( iteration >= WARMUPS )
+            {
+                indexed += indexedTime;
+                linear += linearTime;
+            }
+        }
+
+        System.out.println( "Reverse dependency links of " + MODULES + " modules x " + DEPENDENCIES
+            + " dependencies: indexed " + indexed / ITERATIONS / 1000000 + " ms, linear scan "
+            + linear / ITERATIONS / 1000000 + " ms" );
+    }
+
+    private Map<String, List<ReverseDependencyLink>> indexed()
+    {
+        DependencyConvergenceReport report = new DependencyConvergenceReport();
+        Map<String, List<ReverseDependencyLink>> allDependencies = new TreeMap<String, List<ReverseDependencyLink>>();
+        Map<String, Set<String>> allDependencyVersions = new HashMap<String, Set<String>>();
+        for ( int i = 0; i < MODULES; i++ )
+        {
+            report.getAllDependencyMap( allDependencies, allDependencyVersions, reactorProjects.get( i ),
+                                        descendants.get( i ) );
+        }
+        return allDependencies;
+    }
+
+    private Map<String, List<ReverseDependencyLink>> linearScan()
+    {
+        Map<String, List<ReverseDependencyLink>> allDependencies = new TreeMap<String, List<ReverseDependencyLink>>();
+        for ( int i = 0; i < MODULES; i++ )
+        {
+            DependencyConvergenceAnalysisTest.addAllDependenciesWithLinearScan( allDependencies,
+                                                                                reactorProjects.get( i ),
+                                                                                nodes.get( i ) );
+        }
+        return allDependencies;
+    }
+}
@@ -19,8 +19,21 @@ package org.apache.maven.report.projectinfo;
  * under the License.
  */
 
+import java.io.File;
 import java.net.URL;
 
+import org.apache.maven.artifact.factory.ArtifactFactory;
+import org.apache.maven.artifact.metadata.ArtifactMetadataSource;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.resolver.ArtifactCollector;
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+import org.apache.maven.shared.dependency.tree.DependencyTree;
+import org.apache.maven.shared.dependency.tree.DependencyTreeBuilder;
+import org.codehaus.plexus.util.FileUtils;
+
 import com.meterware.httpunit.GetMethodWebRequest;
 import com.meterware.httpunit.TextBlock;
 import com.meterware.httpunit.WebConversation;
@@ -71,4 +84,87 @@ public class DependencyConvergenceReportTest
         TextBlock[] textBlocks = response.getTextBlocks();
         assertEquals( getString( "report.dependency-convergence.reactor.name" ), textBlocks[0].getText() );
     }
+
+    /**
+     * The trees of a multi-module reactor built on several threads must be rendered as when built one after the
+     * other, whatever the order the builds complete in.
+     *
+     * @throws Exception if any
+     */
+    public void testParallelTreesRenderSameReport()
+        throws Exception
+    {
+        String sequential = renderReport( 1 );
+        String parallel = renderReport( 4 );
+
+        assertTrue( sequential.contains( "3.8.1" ) );
+        assertTrue( sequential.contains( "4.11" ) );
+        assertEquals( sequential, parallel );
+    }
+
+    private String renderReport( int threads )
+        throws Exception
+    {
+        File pluginXmlFile =
+            new File( getBasedir(), "src/test/resources/plugin-configs/dependency-convergence-plugin-config.xml" );
+        AbstractProjectInfoReport mojo = createReportMojo( "dependency-convergence", pluginXmlFile );
+
+        setVariableValueToObject( mojo, "dependencyTreeBuilder", new ConflictingTreeBuilder() );
+        setVariableValueToObject( mojo, "dependencyTreeThreads", Integer.valueOf( threads ) );
+
+        File report = generateReport( mojo, pluginXmlFile );
+        assertTrue( "Test html generated", report.exists() );
+        return FileUtils.fileRead( report, "UTF-8" );
+    }
+
+    /**
+     * Builds a conflict between two versions of the same dependency, in a different order for each module, the first
+     * module of the reactor being the slowest one so that its tree is completed last when built in parallel.
+     */
+    private static class ConflictingTreeBuilder
+        implements DependencyTreeBuilder
+    {
+        public DependencyNode buildDependencyTree( MavenProject project, ArtifactRepository repository,
+                                                   ArtifactFactory factory, ArtifactMetadataSource metadataSource,
+                                                   ArtifactFilter filter, ArtifactCollector collector )
+        {
+            boolean first = project.getArtifactId().endsWith( "1" );
+            if ( first )
+            {
+                try
+                {
+                    Thread.sleep( 200 );
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            DependencyNode root = new DependencyNode( project.getArtifact() );
+            root.addChild( ArtifactStubs.createNode( "conflicting", first ? "3.8.1" : "4.11" ) );
+            DependencyNode shared = ArtifactStubs.createNode( "shared", "1.0" );
+            shared.addChild( ArtifactStubs.createNode( "conflicting", first ? "4.11" : "3.8.1" ) );
+            root.addChild( shared );
+            return root;
+        }
+
+        public DependencyTree buildDependencyTree( MavenProject project, ArtifactRepository repository,
+                                                   ArtifactFactory factory, ArtifactMetadataSource metadataSource,
+                                                   ArtifactCollector collector )
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        public DependencyNode buildDependencyTree( MavenProject project )
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        public DependencyNode buildDependencyTree( MavenProject project, ArtifactRepository repository,
+                                                   ArtifactFilter filter )
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
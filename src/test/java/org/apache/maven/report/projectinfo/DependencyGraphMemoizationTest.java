@@ -0,0 +1,68 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.report.projectinfo.stubs.DependencyGraphBuilderStub;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+
+/**
+ * Checks that the dependencies report resolves the dependency tree once, with a stub graph builder since the
+ * default one does not work in the test harness, see {@link DependenciesReportTest}.
+ *
+ * @version $Id$
+ */
+public class DependencyGraphMemoizationTest
+    extends AbstractProjectInfoTestCase
+{
+    /**
+     * @throws Exception if any
+     */
+    public void testDependencyTreeResolvedOnce()
+        throws Exception
+    {
+        File pluginXmlFile =
+            new File( getBasedir(), "src/test/resources/plugin-configs/dependencies-plugin-config.xml" );
+        AbstractProjectInfoReport mojo = createReportMojo( "dependencies", pluginXmlFile );
+
+        DependencyGraphBuilderStub builder = new DependencyGraphBuilderStub()
+        {
+            @Override
+            protected List<DependencyNode> createChildren( DependencyNode root )
+            {
+                return Collections.<DependencyNode>singletonList(
+                    createNode( root, "junit", "junit", "3.8.1", Artifact.SCOPE_TEST ) );
+            }
+        };
+        setVariableValueToObject( mojo, "dependencyGraphBuilder", builder );
+        setVariableValueToObject( mojo, "skipEmptyReport", Boolean.TRUE );
+
+        assertTrue( mojo.canGenerateReport() );
+        mojo.execute();
+
+        File report = new File( getBasedir(), "target/test-harness/dependencies/dependencies.html" );
+        assertTrue( "Test html generated", report.exists() );
+        assertEquals( 1, builder.getBuildCount() );
+    }
+}
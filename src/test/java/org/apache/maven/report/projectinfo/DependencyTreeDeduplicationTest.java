@@ -0,0 +1,116 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.report.projectinfo.stubs.DependencyGraphBuilderStub;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.StringUtils;
+
+/**
+ * Checks the rendering of the repeated subtrees of the dependency tree, with a stub graph builder since the default
+ * one does not work in the test harness, see {@link DependenciesReportTest}.
+ *
+ * @version $Id$
+ */
+public class DependencyTreeDeduplicationTest
+    extends AbstractProjectInfoTestCase
+{
+    private static final String PLEXUS_UTILS = "org.codehaus.plexus:plexus-utils:jar:1.5.15";
+
+    /**
+     * @throws Exception if any
+     */
+    public void testRepeatedSubtrees()
+        throws Exception
+    {
+        String content = renderDependencyTree( false );
+
+        assertEquals( 2, StringUtils.countMatches( content, PLEXUS_UTILS ) );
+        assertFalse( content.contains( "dependencySubtree" ) );
+    }
+
+    /**
+     * @throws Exception if any
+     */
+    public void testDeduplicatedSubtrees()
+        throws Exception
+    {
+        String content = renderDependencyTree( true );
+
+        assertEquals( 1, StringUtils.countMatches( content, PLEXUS_UTILS ) );
+        assertEquals( 2, StringUtils.countMatches( content, "commons-lang:commons-lang:jar:2.6" ) );
+        assertEquals( 1, StringUtils.countMatches( content, "(see above)" ) );
+        assertEquals( 1, StringUtils.countMatches( content, "name=\"dependencySubtree" ) );
+        assertEquals( 1, StringUtils.countMatches( content, "href=\"#dependencySubtree" ) );
+    }
+
+    private String renderDependencyTree( boolean deduplicate )
+        throws Exception
+    {
+        File pluginXmlFile =
+            new File( getBasedir(), "src/test/resources/plugin-configs/dependencies-plugin-config.xml" );
+        AbstractProjectInfoReport mojo = createReportMojo( "dependencies", pluginXmlFile );
+
+        setVariableValueToObject( mojo, "dependencyGraphBuilder", new RepeatedSubtreeGraphBuilder() );
+        setVariableValueToObject( mojo, "dependencyTreeDeduplicate", Boolean.valueOf( deduplicate ) );
+
+        mojo.execute();
+
+        File report = new File( getBasedir(), "target/test-harness/dependencies/dependencies.html" );
+        assertTrue( "Test html generated", report.exists() );
+        return FileUtils.fileRead( report, "UTF-8" );
+    }
+
+    /**
+     * Builds a tree where the commons-lang subtree is repeated under junit and commons-validator.
+     */
+    private static class RepeatedSubtreeGraphBuilder
+        extends DependencyGraphBuilderStub
+    {
+        @Override
+        protected List<DependencyNode> createChildren( DependencyNode root )
+        {
+            return Arrays.asList( addSubtree( createNode( root, "junit", "junit", "3.8.1", Artifact.SCOPE_TEST ) ),
+                                  addSubtree( createNode( root, "commons-validator", "commons-validator", "1.5.1",
+                                                          Artifact.SCOPE_COMPILE ) ) );
+        }
+
+        /**
+         * @return the node, with the commons-lang then plexus-utils descendants
+         */
+        private static DependencyNode addSubtree( DefaultDependencyNode node )
+        {
+            DefaultDependencyNode lang =
+                createNode( node, "commons-lang", "commons-lang", "2.6", Artifact.SCOPE_COMPILE );
+            lang.setChildren( Collections.<DependencyNode>singletonList(
+                createNode( lang, "org.codehaus.plexus", "plexus-utils", "1.5.15", Artifact.SCOPE_COMPILE ) ) );
+            node.setChildren( Collections.<DependencyNode>singletonList( lang ) );
+            return node;
+        }
+    }
+}
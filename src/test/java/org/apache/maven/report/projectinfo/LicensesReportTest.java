@@ -19,7 +19,25 @@ package org.apache.maven.report.projectinfo;
  * under the License.
  */
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.maven.model.License;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.FileUtils;
+import org.mortbay.jetty.Request;
+import org.mortbay.jetty.Server;
+import org.mortbay.jetty.handler.AbstractHandler;
+import org.mortbay.jetty.nio.SelectChannelConnector;
 
 import com.meterware.httpunit.GetMethodWebRequest;
 import com.meterware.httpunit.TextBlock;
@@ -41,6 +59,9 @@ public class LicensesReportTest
      */
     private static final WebConversation WEB_CONVERSATION = new WebConversation();
 
+    private static final File LICENSES_PLUGIN_XML_FILE =
+        new File( getBasedir(), "src/test/resources/plugin-configs/licenses-plugin-config.xml" );
+
     /**
      * Test report
      *
@@ -117,4 +138,242 @@ public class LicensesReportTest
         assertEquals( "http://www.apache.org/licenses/LICENSE-2.0.txt", links[1].getURLString() );
         assertEquals( "http://www.apache.org/licenses/LICENSE-2.0.txt", links[1].getText() );
     }
+
+    /**
+     * Test the concurrent fetch of the license files, a slow license being rendered as a link after the deadline,
+     * without being fetched again by the next module
+     *
+     * @throws Exception if any
+     */
+    public void testPrefetchDeadline()
+        throws Exception
+    {
+        fetchLicenses( 2 );
+    }
+
+    /**
+     * Test the fetch of the license files one after another, the deadline applying as well
+     *
+     * @throws Exception if any
+     */
+    public void testSequentialFetchDeadline()
+        throws Exception
+    {
+        fetchLicenses( 1 );
+    }
+
+    /**
+     * Test that a deadline of 0 waits for all the license files: the slow license is only served after the fast one
+     *
+     * @throws Exception if any
+     */
+    public void testNoDeadline()
+        throws Exception
+    {
+        final CountDownLatch fastServed = new CountDownLatch( 1 );
+        LicenseServer server = new LicenseServer()
+        {
+            @Override
+            void fast()
+            {
+                fastServed.countDown();
+            }
+
+            @Override
+            void slow()
+                throws InterruptedException
+            {
+                fastServed.await();
+            }
+        };
+        server.startServer();
+        try
+        {
+            AbstractProjectInfoReport mojo = createLicensesMojo( server, 2, 0, new ArrayList<MavenProject>() );
+            String content = FileUtils.fileRead( generateReport( mojo, LICENSES_PLUGIN_XML_FILE ) );
+
+            assertTrue( content.contains( "Text of the fast license" ) );
+            assertTrue( content.contains( "Text of the slow license" ) );
+        }
+        finally
+        {
+            server.stopServer();
+        }
+    }
+
+    /**
+     * Test that offline, the cached license file is inlined while only a link is rendered for the license not cached
+     *
+     * @throws Exception if any
+     */
+    public void testOffline()
+        throws Exception
+    {
+        final AtomicInteger requests = new AtomicInteger();
+        LicenseServer server = new LicenseServer()
+        {
+            @Override
+            void fast()
+            {
+                requests.incrementAndGet();
+            }
+
+            @Override
+            void slow()
+            {
+                requests.incrementAndGet();
+            }
+        };
+        server.startServer();
+        try
+        {
+            File cacheDirectory = new File( getBasedir(), "target/unit/licenses-offline-cache" );
+            FileUtils.deleteDirectory( cacheDirectory );
+            new ContentCache( cacheDirectory, 0 ).put( new URL( server.getBaseUrl() + "fast" ), null, null,
+                                                       "Cached text of the fast license".getBytes( "UTF-8" ) );
+
+            AbstractProjectInfoReport mojo = createLicensesMojo( server, 1, 0, new ArrayList<MavenProject>() );
+            setVariableValueToObject( mojo, "offline", Boolean.TRUE );
+            setVariableValueToObject( mojo, "licenseCacheDirectory", cacheDirectory );
+            mojo.settings.setOffline( true );
+            assertTrue( mojo.canGenerateReport() );
+            String content = FileUtils.fileRead( generateReport( mojo, LICENSES_PLUGIN_XML_FILE ) );
+
+            assertTrue( content.contains( "Cached text of the fast license" ) );
+            assertTrue( content.contains( "href=\"" + server.getBaseUrl() + "slow\"" ) );
+            assertFalse( content.contains( "Can't read the url" ) );
+            assertEquals( 0, requests.get() );
+        }
+        finally
+        {
+            server.stopServer();
+        }
+    }
+
+    private void fetchLicenses( int threads )
+        throws Exception
+    {
+        final CountDownLatch released = new CountDownLatch( 1 );
+        final AtomicInteger slowRequests = new AtomicInteger();
+        LicenseServer server = new LicenseServer()
+        {
+            @Override
+            void slow()
+                throws InterruptedException
+            {
+                slowRequests.incrementAndGet();
+                // hangs past the deadline, until the end of the test, bounded in case the license is fetched again
+                released.await( 30, TimeUnit.SECONDS );
+            }
+        };
+        server.startServer();
+        try
+        {
+            List<MavenProject> reactorProjects = new ArrayList<MavenProject>();
+            for ( int module = 0; module < 2; module++ )
+            {
+                AbstractProjectInfoReport mojo = createLicensesMojo( server, threads, 1, reactorProjects );
+                String content = FileUtils.fileRead( generateReport( mojo, LICENSES_PLUGIN_XML_FILE ) );
+
+                assertTrue( content.contains( "Text of the fast license" ) );
+                assertFalse( content.contains( "Text of the slow license" ) );
+                assertTrue( content.contains( "href=\"" + server.getBaseUrl() + "slow\"" ) );
+            }
+
+            assertEquals( "The next module should not fetch the slow license again", 1, slowRequests.get() );
+        }
+        finally
+        {
+            released.countDown();
+            server.stopServer();
+        }
+    }
+
+    private AbstractProjectInfoReport createLicensesMojo( LicenseServer server, int threads, int deadline,
+                                                          List<MavenProject> reactorProjects )
+        throws Exception
+    {
+        AbstractProjectInfoReport mojo = createReportMojo( "license", LICENSES_PLUGIN_XML_FILE );
+        mojo.project.getModel().getLicenses().clear();
+        for ( String name : new String[] { "fast", "slow" } )
+        {
+            License license = new License();
+            license.setName( name );
+            license.setUrl( server.getBaseUrl() + name );
+            mojo.project.getModel().addLicense( license );
+        }
+        setVariableValueToObject( mojo, "reactorProjects", reactorProjects );
+        setVariableValueToObject( mojo, "licenseFetchThreads", Integer.valueOf( threads ) );
+        setVariableValueToObject( mojo, "licenseFetchTimeout", Integer.valueOf( 60 ) );
+        setVariableValueToObject( mojo, "licenseFetchDeadline", Integer.valueOf( deadline ) );
+        return mojo;
+    }
+
+    /**
+     * Serves the text of the <code>fast</code> and <code>slow</code> licenses, after the hooks of each license.
+     */
+    private static class LicenseServer
+        extends AbstractHandler
+    {
+        private final Server jettyServer = new Server();
+
+        private final SelectChannelConnector connector = new SelectChannelConnector();
+
+        LicenseServer()
+        {
+            jettyServer.addConnector( connector );
+            jettyServer.setHandler( this );
+        }
+
+        void startServer()
+            throws Exception
+        {
+            jettyServer.start();
+        }
+
+        void stopServer()
+            throws Exception
+        {
+            jettyServer.stop();
+        }
+
+        String getBaseUrl()
+        {
+            return "http://127.0.0.1:" + connector.getLocalPort() + "/";
+        }
+
+        void fast()
+        {
+            // no op
+        }
+
+        void slow()
+            throws InterruptedException
+        {
+            // no op
+        }
+
+        public void handle( String target, HttpServletRequest request, HttpServletResponse response, int dispatch )
+            throws IOException
+        {
+            try
+            {
+                if ( target.contains( "slow" ) )
+                {
+                    slow();
+                }
+                else
+                {
+                    fast();
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType( "text/plain" );
+            response.getWriter().print( "Text of the " + target.substring( 1 ) + " license" );
+            ( (Request) request ).setHandled( true );
+        }
+    }
 }
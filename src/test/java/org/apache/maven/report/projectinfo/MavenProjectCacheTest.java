@@ -0,0 +1,206 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectBuilder;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+
+/**
+ * @version $Id$
+ */
+public class MavenProjectCacheTest
+    extends TestCase
+{
+    private final Artifact a = ArtifactStubs.createArtifact( "a", "1.0", Artifact.SCOPE_COMPILE, "pom" );
+
+    private final Artifact b = ArtifactStubs.createArtifact( "b", "1.0", Artifact.SCOPE_COMPILE, "pom" );
+
+    private final Artifact c = ArtifactStubs.createArtifact( "c", "1.0", Artifact.SCOPE_COMPILE, "pom" );
+
+    private final List<String> builtProjects = Collections.synchronizedList( new ArrayList<String>() );
+
+    private MavenProjectBuilder mavenProjectBuilder;
+
+    /** When set, the builder waits for it before returning a model */
+    private volatile CountDownLatch release;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        mavenProjectBuilder =
+            (MavenProjectBuilder) Proxy.newProxyInstance( getClass().getClassLoader(),
+                                                          new Class[] { MavenProjectBuilder.class },
+                                                          new InvocationHandler()
+                                                          {
+                                                              public Object invoke( Object proxy, Method method,
+                                                                                    Object[] args )
+                                                              {
+                                                                  Artifact artifact = (Artifact) args[0];
+                                                                  builtProjects.add( artifact.getId() + ':'
+                                                                      + args[3] );
+                                                                  awaitRelease();
+
+                                                                  Model model = new Model();
+                                                                  model.setArtifactId( artifact.getArtifactId() );
+                                                                  return new MavenProject( model );
+                                                              }
+                                                          } );
+    }
+
+    public void testCacheHitsAndMisses()
+        throws Exception
+    {
+        MavenProjectCache cache = new MavenProjectCache( 10 );
+
+        MavenProject first = cache.buildFromRepository( mavenProjectBuilder, a, null, null, true );
+        MavenProject second = cache.buildFromRepository( mavenProjectBuilder, a, null, null, true );
+        cache.buildFromRepository( mavenProjectBuilder, b, null, null, true );
+
+        assertSame( first, second );
+        assertEquals( 2, builtProjects.size() );
+        assertEquals( 1, cache.getHits() );
+        assertEquals( 2, cache.getMisses() );
+        assertEquals( 2, cache.size() );
+    }
+
+    public void testCacheIsBounded()
+        throws Exception
+    {
+        MavenProjectCache cache = new MavenProjectCache( 2 );
+
+        cache.buildFromRepository( mavenProjectBuilder, a, null, null, true );
+        cache.buildFromRepository( mavenProjectBuilder, b, null, null, true );
+        cache.buildFromRepository( mavenProjectBuilder, a, null, null, true );
+        cache.buildFromRepository( mavenProjectBuilder, c, null, null, true );
+        // "b" is the least recently used entry and has been evicted
+        cache.buildFromRepository( mavenProjectBuilder, b, null, null, true );
+
+        assertEquals( 2, cache.size() );
+        assertEquals( 4, builtProjects.size() );
+    }
+
+    public void testStubModelIsNotShared()
+        throws Exception
+    {
+        MavenProjectCache cache = new MavenProjectCache( 10 );
+
+        MavenProject stub = cache.buildFromRepository( mavenProjectBuilder, a, null, null, true );
+        MavenProject pom = cache.buildFromRepository( mavenProjectBuilder, a, null, null, false );
+
+        assertNotSame( stub, pom );
+        assertEquals( 2, builtProjects.size() );
+        assertTrue( builtProjects.contains( "org.apache.maven.test:a:pom:1.0:true" ) );
+        assertTrue( builtProjects.contains( "org.apache.maven.test:a:pom:1.0:false" ) );
+    }
+
+    public void testConcurrentMissesBuildOnce()
+        throws Exception
+    {
+        final MavenProjectCache cache = new MavenProjectCache( 10 );
+        release = new CountDownLatch( 1 );
+
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            List<Future<MavenProject>> futures = new ArrayList<Future<MavenProject>>();
+            for ( int i = 0; i < 4; i++ )
+            {
+                futures.add( executor.submit( new Callable<MavenProject>()
+                {
+                    public MavenProject call()
+                        throws Exception
+                    {
+                        return cache.buildFromRepository( mavenProjectBuilder, a, null, null, true );
+                    }
+                } ) );
+            }
+
+            // wait for all the requests to reach the cache before the first build completes
+            while ( cache.getHits() + cache.getMisses() < 4 )
+            {
+                Thread.sleep( 10 );
+            }
+            release.countDown();
+
+            for ( Future<MavenProject> future : futures )
+            {
+                assertSame( futures.get( 0 ).get(), future.get() );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals( 1, builtProjects.size() );
+        assertEquals( 1, cache.getMisses() );
+        assertEquals( 3, cache.getHits() );
+    }
+
+    public void testSessionScope()
+    {
+        Object session = new Object();
+        Object otherSession = new Object();
+
+        MavenProjectCache cache = MavenProjectCache.getInstance( session );
+        assertSame( cache, MavenProjectCache.getInstance( session ) );
+        MavenProjectCache otherCache = MavenProjectCache.getInstance( otherSession );
+        assertNotSame( cache, otherCache );
+        // another session does not drop the values of the first one
+        assertSame( cache, MavenProjectCache.getInstance( session ) );
+        assertSame( otherCache, MavenProjectCache.getInstance( otherSession ) );
+    }
+
+    private void awaitRelease()
+    {
+        if ( release != null )
+        {
+            try
+            {
+                assertTrue( release.await( 10, TimeUnit.SECONDS ) );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+/**
+ * Checks that {@link RelativeLinksWriter} gives the same output as the regular expressions previously used by the
+ * licenses report.
+ *
+ * @version $Id$
+ */
+public class RelativeLinksWriterTest
+    extends TestCase
+{
+    private static final String BASE_URL = "http://www.apache.org/licenses";
+
+    private static final String[] DOCUMENTS = {
+        "<p>See <a href=\"LICENSE-2.0.html\">the license</a> and <a href=\"/foundation/\">the foundation</a>.</p>",
+        "<A HREF=\"#definitions\">Definitions</A> <a name=\"x\" href=\"http://example.com/\">abs</a>",
+        "<img src=\"images/logo.png\" alt=\"logo\"/><IMG\nSRC = \"/images/feather.gif\">",
+        "<a title=\"a > b\" href=\"x.html\">text</a>",
+        "<a href=\"1.html\" href=\"2.html\">twice</a>",
+        "<abbr href=\"no.html\">not an anchor</abbr><a\thref=\"tab.html\">tab</a>",
+        "< a href=\"space.html\">space</a><a href=''>single quotes</a><a href=\"\">empty</a>",
+        "<a href=\"unclosed.html>never closed",
+        "<a href=\"value with > inside\" class=\"c\">x</a><img src=\"mailto:x@y.z\">",
+        "<a <a href=\"nested.html\">nested</a>",
+        "text without tags",
+        "",
+    };
+
+    public void testSameOutputAsRegularExpressions()
+        throws IOException
+    {
+        for ( String document : DOCUMENTS )
+        {
+            assertEquals( document, replaceRelativeLinks( document, BASE_URL ), rewrite( document, 0 ) );
+            assertEquals( document, replaceRelativeLinks( document, BASE_URL ), rewrite( document, 1 ) );
+            assertEquals( document, replaceRelativeLinks( document, BASE_URL ), rewrite( document, 3 ) );
+        }
+    }
+
+    public void testRandomDocuments()
+        throws IOException
+    {
+        String[] tokens = { "<", ">", "\"", " ", "\n", "a", "A", "img", "href", "src", "=", "/", ":", "#", "x", "<a ",
+            "<img ", " href=\"", " src=\"" };
+        Random random = new Random( 0 );
+        for ( int i = 0; i < 20000; i++ )
+        {
+            StringBuilder document = new StringBuilder();
+            for ( int j = random.nextInt( 16 ); j > 0; j-- )
+            {
+                document.append( tokens[random.nextInt( tokens.length )] );
+            }
+
+            String expected = replaceRelativeLinks( document.toString(), BASE_URL );
+            assertEquals( document.toString(), expected, rewrite( document.toString(), 0 ) );
+            assertEquals( document.toString(), expected, rewrite( document.toString(), 1 + random.nextInt( 4 ) ) );
+        }
+    }
+
+    /**
+     * @param document the document
+     * @param chunkSize the size of the written chunks, or 0 to write the document at once
+     * @return the rewritten document
+     * @throws IOException if any
+     */
+    private static String rewrite( String document, int chunkSize )
+        throws IOException
+    {
+        StringWriter result = new StringWriter();
+        Writer writer = RelativeLinksWriter.create( result, BASE_URL );
+        if ( chunkSize == 0 )
+        {
+            writer.write( document );
+        }
+        else
+        {
+            for ( int i = 0; i < document.length(); i += chunkSize )
+            {
+                writer.write( document.toCharArray(), i, Math.min( chunkSize, document.length() - i ) );
+            }
+        }
+        writer.close();
+        return result.toString();
+    }
+
+    // ----------------------------------------------------------------------
+    // The implementation previously used by LicensesReport
+    // ----------------------------------------------------------------------
+
+    private static String replaceRelativeLinks( String html, String baseURL )
+    {
+        String url = baseURL;
+        if ( !url.endsWith( "/" ) )
+        {
+            url += "/";
+        }
+
+        String serverURL = url.substring( 0, url.indexOf( '/', url.indexOf( "//" ) + 2 ) );
+
+        String content = replaceParts( html, url, serverURL, "[aA]", "[hH][rR][eE][fF]" );
+        content = replaceParts( content, url, serverURL, "[iI][mM][gG]", "[sS][rR][cC]" );
+        return content;
+    }
+
+    private static String replaceParts( String html, String baseURL, String serverURL, String tagPattern,
+                                        String attributePattern )
+    {
+        Pattern anchor = Pattern.compile(
+            "(<\\s*" + tagPattern + "\\s+[^>]*" + attributePattern + "\\s*=\\s*\")([^\"]*)\"([^>]*>)" );
+        StringBuilder sb = new StringBuilder( html );
+
+        int indx = 0;
+        boolean done = false;
+        while ( !done )
+        {
+            Matcher mAnchor = anchor.matcher( sb );
+            if ( mAnchor.find( indx ) )
+            {
+                indx = mAnchor.end( 3 );
+
+                if ( mAnchor.group( 2 ).startsWith( "/" ) )
+                {
+                    // root link
+                    sb.insert( mAnchor.start( 2 ), serverURL );
+                    indx += serverURL.length();
+                }
+                else if ( mAnchor.group( 2 ).indexOf( ':' ) < 0 )
+                {
+                    // relative link
+                    sb.insert( mAnchor.start( 2 ), baseURL );
+                    indx += baseURL.length();
+                }
+            }
+            else
+            {
+                done = true;
+            }
+        }
+        return sb.toString();
+    }
+}
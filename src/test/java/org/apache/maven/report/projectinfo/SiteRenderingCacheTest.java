@@ -0,0 +1,65 @@
+package org.apache.maven.report.projectinfo;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+
+import junit.framework.TestCase;
+
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @version $Id$
+ */
+public class SiteRenderingCacheTest
+    extends TestCase
+{
+    public void testCopyDirectorySkipsUnchangedFiles()
+        throws Exception
+    {
+        File baseDir = new File( System.getProperty( "basedir", "." ), "target/unit/site-rendering-cache" );
+        FileUtils.deleteDirectory( baseDir );
+        File source = new File( baseDir, "resources" );
+        File destination = new File( baseDir, "site" );
+        new File( source, "css" ).mkdirs();
+        new File( source, "images" ).mkdirs();
+
+        FileUtils.fileWrite( new File( source, "css/site.css" ).getPath(), "body {}" );
+        FileUtils.fileWrite( new File( source, "images/logo.txt" ).getPath(), "logo" );
+
+        assertEquals( 2, SiteRenderingCache.copyDirectory( source, destination ) );
+        assertEquals( "body {}", FileUtils.fileRead( new File( destination, "css/site.css" ) ) );
+        assertEquals( 0, SiteRenderingCache.copyDirectory( source, destination ) );
+
+        File changed = new File( source, "css/site.css" );
+        FileUtils.fileWrite( changed.getPath(), "body { margin: 0 }" );
+        assertEquals( 1, SiteRenderingCache.copyDirectory( source, destination ) );
+        assertEquals( "body { margin: 0 }", FileUtils.fileRead( new File( destination, "css/site.css" ) ) );
+    }
+
+    public void testSessionScope()
+    {
+        Object session = new Object();
+
+        SiteRenderingCache cache = SiteRenderingCache.getInstance( session );
+        assertSame( cache, SiteRenderingCache.getInstance( session ) );
+        assertNotSame( cache, SiteRenderingCache.getInstance( new Object() ) );
+    }
+}
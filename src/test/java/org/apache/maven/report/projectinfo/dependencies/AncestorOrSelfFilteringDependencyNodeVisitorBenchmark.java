@@ -0,0 +1,114 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.StringWriter;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+import org.apache.maven.shared.dependency.tree.filter.AncestorOrSelfDependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.filter.ArtifactDependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.filter.DependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.traversal.BuildingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.CollectingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.FilteringDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.SerializingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.SerializingDependencyNodeVisitor.TreeTokens;
+
+/**
+ * Micro benchmark of the single walk filtering against the previous two passes, with a collecting visitor then an
+ * {@link AncestorOrSelfDependencyNodeFilter}. Only run with the <code>benchmark</code> profile, the timings are
+ * printed.
+ *
+ * @version $Id$
+ * @see AncestorOrSelfFilteringDependencyNodeVisitorTest
+ */
+public class AncestorOrSelfFilteringDependencyNodeVisitorBenchmark
+    extends TestCase
+{
+    private static final int WIDTH = 60;
+
+    private static final int WARMUPS = 3;
+
+    private static final int ITERATIONS = 5;
+
+    private static final TreeTokens TOKENS = SerializingDependencyNodeVisitor.STANDARD_TOKENS;
+
+    private static final String TARGET = "org.apache.maven.test:target:jar:1.0";
+
+    public void testTwoPasses()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        for ( int i = 0; i < WIDTH; i++ )
+        {
+            DependencyNode child = ArtifactStubs.createNode( "child-" + i, "1.0" );
+            for ( int j = 0; j < WIDTH; j++ )
+            {
+                DependencyNode grandchild = ArtifactStubs.createNode( "grandchild-" + j, "1.0" );
+                grandchild.addChild( ArtifactStubs.createNode( j % 10 == 0 ? "target" : "leaf-" + j, "1.0" ) );
+                child.addChild( grandchild );
+            }
+            root.addChild( child );
+        }
+
+        long singleWalk = 0;
+        long twoPasses = 0;
+        for ( int iteration = 0; iteration < WARMUPS + ITERATIONS; iteration++ )
+        {
+            long start = System.nanoTime();
+            StringWriter expected = new StringWriter();
+            CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
+            root.accept( new FilteringDependencyNodeVisitor( collectingVisitor, createFilter() ) );
+            DependencyNodeFilter secondPassFilter =
+                new AncestorOrSelfDependencyNodeFilter( collectingVisitor.getNodes() );
+            root.accept( new FilteringDependencyNodeVisitor(
+                new BuildingDependencyNodeVisitor( new SerializingDependencyNodeVisitor( expected, TOKENS ) ),
+                secondPassFilter ) );
+            long twoPassesTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            StringWriter actual = new StringWriter();
+            root.accept( new AncestorOrSelfFilteringDependencyNodeVisitor(
+                new BuildingDependencyNodeVisitor( new SerializingDependencyNodeVisitor( actual, TOKENS ) ),
+                createFilter() ) );
+            long singleWalkTime = System.nanoTime() - start;
+
+            assertEquals( expected.toString(), actual.toString() );
+            if ( iteration >= WARMUPS )
+            {
+                singleWalk += singleWalkTime;
+                twoPasses += twoPassesTime;
+            }
+        }
+
+        System.out.println( "Filtered serialization of " + ( WIDTH * WIDTH * 2 + WIDTH + 1 ) + " nodes: single walk "
+            + singleWalk / ITERATIONS / 1000000 + " ms, two passes " + twoPasses / ITERATIONS / 1000000 + " ms" );
+    }
+
+    private static DependencyNodeFilter createFilter()
+    {
+        return new ArtifactDependencyNodeFilter(
+            new StrictPatternIncludesArtifactFilter( Collections.singletonList( TARGET ) ) );
+    }
+}
@@ -0,0 +1,126 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.StringWriter;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.shared.artifact.filter.StrictPatternIncludesArtifactFilter;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+import org.apache.maven.shared.dependency.tree.filter.AncestorOrSelfDependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.filter.ArtifactDependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.filter.DependencyNodeFilter;
+import org.apache.maven.shared.dependency.tree.traversal.BuildingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.CollectingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.FilteringDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.SerializingDependencyNodeVisitor;
+import org.apache.maven.shared.dependency.tree.traversal.SerializingDependencyNodeVisitor.TreeTokens;
+
+/**
+ * Checks the single walk filtering against the previous two passes, with a collecting visitor then an
+ * {@link AncestorOrSelfDependencyNodeFilter}.
+ *
+ * @version $Id$
+ */
+public class AncestorOrSelfFilteringDependencyNodeVisitorTest
+    extends TestCase
+{
+    private static final int WIDTH = 40;
+
+    private static final TreeTokens TOKENS = SerializingDependencyNodeVisitor.STANDARD_TOKENS;
+
+    private static final String TARGET = "org.apache.maven.test:target:jar:1.0";
+
+    public void testFilter()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        DependencyNode a = ArtifactStubs.createNode( "a", "1.0" );
+        DependencyNode b = ArtifactStubs.createNode( "b", "1.0" );
+        DependencyNode c = ArtifactStubs.createNode( "c", "1.0" );
+        root.addChild( a );
+        root.addChild( b );
+        root.addChild( c );
+        a.addChild( ArtifactStubs.createNode( "a1", "1.0" ) );
+        a.addChild( ArtifactStubs.createNode( "target", "1.0" ) );
+        b.addChild( ArtifactStubs.createNode( "b1", "1.0" ) );
+        DependencyNode c1 = ArtifactStubs.createNode( "c1", "1.0" );
+        c.addChild( c1 );
+        c1.addChild( ArtifactStubs.createNode( "target", "1.0" ) );
+
+        assertEquals( "org.apache.maven.test:root:jar:1.0:compile\n"
+            + "+- org.apache.maven.test:a:jar:1.0:compile\n"
+            + "|  \\- org.apache.maven.test:target:jar:1.0:compile\n"
+            + "\\- org.apache.maven.test:c:jar:1.0:compile\n"
+            + "   \\- org.apache.maven.test:c1:jar:1.0:compile\n"
+            + "      \\- org.apache.maven.test:target:jar:1.0:compile\n", serialize( root ) );
+    }
+
+    public void testNoMatch()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        root.addChild( ArtifactStubs.createNode( "a", "1.0" ) );
+
+        assertEquals( "", serialize( root ) );
+    }
+
+    public void testTwoPasses()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        for ( int i = 0; i < WIDTH; i++ )
+        {
+            DependencyNode child = ArtifactStubs.createNode( "child-" + i, "1.0" );
+            for ( int j = 0; j < WIDTH; j++ )
+            {
+                DependencyNode grandchild = ArtifactStubs.createNode( "grandchild-" + j, "1.0" );
+                grandchild.addChild( ArtifactStubs.createNode( j % 10 == 0 ? "target" : "leaf-" + j, "1.0" ) );
+                child.addChild( grandchild );
+            }
+            root.addChild( child );
+        }
+
+        StringWriter expected = new StringWriter();
+        CollectingDependencyNodeVisitor collectingVisitor = new CollectingDependencyNodeVisitor();
+        root.accept( new FilteringDependencyNodeVisitor( collectingVisitor, createFilter() ) );
+        DependencyNodeFilter secondPassFilter = new AncestorOrSelfDependencyNodeFilter( collectingVisitor.getNodes() );
+        root.accept( new FilteringDependencyNodeVisitor(
+            new BuildingDependencyNodeVisitor( new SerializingDependencyNodeVisitor( expected, TOKENS ) ),
+            secondPassFilter ) );
+
+        assertEquals( expected.toString(), serialize( root ) );
+    }
+
+    private static String serialize( DependencyNode root )
+    {
+        StringWriter writer = new StringWriter();
+        root.accept( new AncestorOrSelfFilteringDependencyNodeVisitor(
+            new BuildingDependencyNodeVisitor( new SerializingDependencyNodeVisitor( writer, TOKENS ) ),
+            createFilter() ) );
+        return writer.toString();
+    }
+
+    private static DependencyNodeFilter createFilter()
+    {
+        return new ArtifactDependencyNodeFilter(
+            new StrictPatternIncludesArtifactFilter( Collections.singletonList( TARGET ) ) );
+    }
+}
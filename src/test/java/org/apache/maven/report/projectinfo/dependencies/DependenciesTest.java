@@ -0,0 +1,196 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @version $Id$
+ */
+public class DependenciesTest
+    extends TestCase
+{
+    private static final int DIRECT_COUNT = 100;
+
+    private static final int CHILDREN_COUNT = 100;
+
+    private static final int CHILDREN_OFFSET = 50;
+
+    /**
+     * Synthetic tree of 10,101 nodes: 100 direct dependencies, each one with 100 children overlapping by half with
+     * the children of the previous direct dependency.
+     */
+    public void testLargeTree()
+    {
+        MavenProject project = createProject();
+
+        DefaultDependencyNode root = new DefaultDependencyNode( null, project.getArtifact(), null, null, null );
+        List<DependencyNode> directNodes = new ArrayList<DependencyNode>();
+        for ( int i = 0; i < DIRECT_COUNT; i++ )
+        {
+            DefaultDependencyNode directNode =
+                new DefaultDependencyNode( root, ArtifactStubs.createArtifact( "direct-" + i, "1.0" ), null, null,
+                                           null );
+            List<DependencyNode> children = new ArrayList<DependencyNode>();
+            for ( int j = 0; j < CHILDREN_COUNT; j++ )
+            {
+                DefaultDependencyNode child =
+                    new DefaultDependencyNode( directNode, createLib( i * CHILDREN_OFFSET + j ), null, null, null );
+                child.setChildren( Collections.<DependencyNode>emptyList() );
+                children.add( child );
+            }
+            directNode.setChildren( children );
+            directNodes.add( directNode );
+        }
+        root.setChildren( directNodes );
+
+        Dependencies dependencies = new Dependencies( project, root, null );
+
+        // expected pre-order, without duplicates
+        List<String> expectedAll = new ArrayList<String>();
+        List<String> expectedTransitive = new ArrayList<String>();
+        for ( int i = 0; i < DIRECT_COUNT; i++ )
+        {
+            expectedAll.add( "direct-" + i );
+            for ( int j = ( i == 0 ) ? 0 : CHILDREN_COUNT - CHILDREN_OFFSET; j < CHILDREN_COUNT; j++ )
+            {
+                expectedAll.add( "lib-" + ( i * CHILDREN_OFFSET + j ) );
+                expectedTransitive.add( "lib-" + ( i * CHILDREN_OFFSET + j ) );
+            }
+        }
+
+        assertEquals( DIRECT_COUNT, dependencies.getProjectDependencies().size() );
+        assertEquals( expectedAll, getArtifactIds( dependencies.getAllDependencies() ) );
+        assertEquals( expectedTransitive, getArtifactIds( dependencies.getTransitiveDependencies() ) );
+
+        Map<String, List<Artifact>> directByScope = dependencies.getDependenciesByScope( false );
+        assertEquals( 1, directByScope.size() );
+        assertEquals( DIRECT_COUNT, directByScope.get( Artifact.SCOPE_COMPILE ).size() );
+
+        Map<String, List<Artifact>> transitiveByScope = dependencies.getDependenciesByScope( true );
+        List<String> expectedRuntime = new ArrayList<String>();
+        List<String> expectedTest = new ArrayList<String>();
+        for ( String artifactId : expectedTransitive )
+        {
+            int index = Integer.parseInt( artifactId.substring( "lib-".length() ) );
+            ( index % 2 == 0 ? expectedRuntime : expectedTest ).add( artifactId );
+        }
+        assertEquals( expectedRuntime, getArtifactIds( transitiveByScope.get( Artifact.SCOPE_RUNTIME ) ) );
+        assertEquals( expectedTest, getArtifactIds( transitiveByScope.get( Artifact.SCOPE_TEST ) ) );
+    }
+
+    /**
+     * The jars analyzed on several threads should have the same details as when analyzed one by one.
+     */
+    public void testParallelJarAnalysis()
+        throws Exception
+    {
+        JarClassesAnalysis classesAnalyzer = new JarClassesAnalysis();
+        classesAnalyzer.enableLogging( new ConsoleLogger( Logger.LEVEL_DISABLED, "test" ) );
+
+        Class<?>[] classes =
+            { JarClassesAnalysis.class, TestCase.class, FileUtils.class, Logger.class, MavenProject.class,
+                Artifact.class, Model.class, DependencyNode.class };
+        List<Artifact> artifacts = new ArrayList<Artifact>();
+        for ( Class<?> c : classes )
+        {
+            Artifact artifact = ArtifactStubs.createArtifact( "jar-" + artifacts.size(), "1.0" );
+            artifact.setFile( new File( c.getProtectionDomain().getCodeSource().getLocation().getPath() ) );
+            assertTrue( artifact.getFile() + " is not a jar", artifact.getFile().isFile() );
+            artifacts.add( artifact );
+        }
+
+        Dependencies sequential = new Dependencies( createProject(), null, classesAnalyzer );
+        Map<String, String> expected = new LinkedHashMap<String, String>();
+        for ( Artifact artifact : artifacts )
+        {
+            expected.put( artifact.getId(), toString( sequential.getJarDetails( artifact ) ) );
+        }
+
+        Dependencies parallel = new Dependencies( createProject(), null, classesAnalyzer );
+        parallel.analyzeJarDependencies( artifacts, 4 );
+
+        // the details must have been computed by the analysis, not when they are read
+        for ( Artifact artifact : artifacts )
+        {
+            artifact.setFile( new File( "target/unit/missing.jar" ) );
+        }
+        Map<String, String> actual = new LinkedHashMap<String, String>();
+        for ( Artifact artifact : artifacts )
+        {
+            actual.put( artifact.getId(), toString( parallel.getJarDetails( artifact ) ) );
+        }
+
+        assertEquals( expected, actual );
+    }
+
+    private static String toString( JarDetails details )
+    {
+        return details.getNumEntries() + " entries, " + details.getNumClasses() + " classes, "
+            + details.getNumPackages() + " packages, JDK " + details.getJdkRevision() + ", debug "
+            + details.isDebugPresent() + ", sealed " + details.isSealed();
+    }
+
+    private static MavenProject createProject()
+    {
+        Model model = new Model();
+        model.setGroupId( ArtifactStubs.GROUP_ID );
+        model.setArtifactId( "project" );
+        model.setVersion( "1.0" );
+
+        MavenProject project = new MavenProject( model );
+        project.setArtifact( ArtifactStubs.createArtifact( "project", "1.0", null, "jar" ) );
+        return project;
+    }
+
+    private static Artifact createLib( int index )
+    {
+        return ArtifactStubs.createArtifact( "lib-" + index, "1.0",
+                                             index % 2 == 0 ? Artifact.SCOPE_RUNTIME : Artifact.SCOPE_TEST, "jar" );
+    }
+
+    private static List<String> getArtifactIds( List<Artifact> artifacts )
+    {
+        List<String> artifactIds = new ArrayList<String>( artifacts.size() );
+        for ( Artifact artifact : artifacts )
+        {
+            artifactIds.add( artifact.getArtifactId() );
+        }
+        return artifactIds;
+    }
+}
@@ -0,0 +1,63 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+
+/**
+ * @version $Id$
+ */
+public class DependencyVersionMapTest
+    extends TestCase
+{
+    public void testConflicts()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "project", "1.0" );
+        DependencyNode a = ArtifactStubs.createNode( "a", "1.0" );
+        DependencyNode b = ArtifactStubs.createNode( "b", "1.0" );
+        root.addChild( a );
+        root.addChild( b );
+        a.addChild( ArtifactStubs.createNode( "lib", "1.0" ) );
+        a.addChild( ArtifactStubs.createNode( "common", "2.0" ) );
+        b.addChild( ArtifactStubs.createNode( "lib", "1.0" ) );
+        DependencyNode conflicting = ArtifactStubs.createNode( "common", "2.1" );
+        b.addChild( conflicting );
+        // not visited, the parent node is in conflict
+        conflicting.addChild( ArtifactStubs.createNode( "other", "1.0" ) );
+        root.addChild( ArtifactStubs.createNode( "common", "2.2" ) );
+
+        DependencyVersionMap visitor = new DependencyVersionMap();
+        visitor.setUniqueVersions( true );
+        root.accept( visitor );
+
+        List<List<DependencyNode>> conflicts = visitor.getConflictedVersionNumbers();
+        assertEquals( 1, conflicts.size() );
+        List<DependencyNode> nodes = conflicts.get( 0 );
+        assertEquals( 3, nodes.size() );
+        assertEquals( "2.0", nodes.get( 0 ).getArtifact().getVersion() );
+        assertEquals( "2.1", nodes.get( 1 ).getArtifact().getVersion() );
+        assertEquals( "2.2", nodes.get( 2 ).getArtifact().getVersion() );
+    }
+}
@@ -0,0 +1,188 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.shared.jar.JarAnalyzer;
+import org.apache.maven.shared.jar.classes.JarClassesAnalysis;
+import org.codehaus.plexus.logging.Logger;
+import org.codehaus.plexus.logging.console.ConsoleLogger;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.IOUtil;
+
+/**
+ * @version $Id$
+ */
+public class FastJarScannerTest
+    extends TestCase
+{
+    private JarClassesAnalysis classesAnalyzer;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        classesAnalyzer = new JarClassesAnalysis();
+        classesAnalyzer.enableLogging( new ConsoleLogger( Logger.LEVEL_DISABLED, "test" ) );
+    }
+
+    /**
+     * The scanner should give the same figures as the full analysis on real jars.
+     */
+    public void testSameDetailsAsJarAnalyzer()
+        throws Exception
+    {
+        Class<?>[] classes = { JarClassesAnalysis.class, TestCase.class, FileUtils.class, Logger.class };
+        for ( Class<?> c : classes )
+        {
+            File jar = new File( c.getProtectionDomain().getCodeSource().getLocation().getPath() );
+            assertTrue( jar + " is not a jar", jar.isFile() );
+
+            assertSameDetails( jar );
+        }
+    }
+
+    public void testStoredEntriesAndSealedManifest()
+        throws Exception
+    {
+        File dir = new File( System.getProperty( "basedir", "." ), "target/unit/fast-jar-scanner" );
+        FileUtils.deleteDirectory( dir );
+        dir.mkdirs();
+        File jar = new File( dir, "test.jar" );
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put( Attributes.Name.MANIFEST_VERSION, "1.0" );
+        manifest.getMainAttributes().put( Attributes.Name.SEALED, "true" );
+
+        JarOutputStream out = new JarOutputStream( new FileOutputStream( jar ), manifest );
+        try
+        {
+            out.putNextEntry( new JarEntry( "org/" ) );
+            out.closeEntry();
+            addClass( out, JarDetails.class, ZipEntry.STORED );
+            addClass( out, FastJarScannerTest.class, ZipEntry.DEFLATED );
+            addClass( out, TestCase.class, ZipEntry.STORED );
+
+            JarEntry resource = new JarEntry( "readme.txt" );
+            out.putNextEntry( resource );
+            out.write( "readme".getBytes( "UTF-8" ) );
+            out.closeEntry();
+        }
+        finally
+        {
+            IOUtil.close( out );
+        }
+
+        JarDetails details = FastJarScanner.scan( jar );
+        assertEquals( 3, details.getNumClasses() );
+        assertEquals( 2, details.getNumPackages() );
+        assertTrue( details.isSealed() );
+        assertTrue( details.isDebugPresent() );
+
+        assertSameDetails( jar );
+    }
+
+    public void testInvalidJar()
+        throws Exception
+    {
+        File dir = new File( System.getProperty( "basedir", "." ), "target/unit/fast-jar-scanner" );
+        dir.mkdirs();
+        File file = new File( dir, "invalid.jar" );
+        FileUtils.fileWrite( file.getPath(), "not a jar" );
+
+        try
+        {
+            FastJarScanner.scan( file );
+            fail( "IOException expected" );
+        }
+        catch ( IOException e )
+        {
+            // expected
+        }
+    }
+
+    private void assertSameDetails( File jar )
+        throws IOException
+    {
+        JarAnalyzer jarAnalyzer = new JarAnalyzer( jar );
+        try
+        {
+            classesAnalyzer.analyze( jarAnalyzer );
+        }
+        finally
+        {
+            jarAnalyzer.closeQuietly();
+        }
+        JarDetails expected = JarDetails.of( jarAnalyzer.getJarData() );
+
+        JarDetails actual = FastJarScanner.scan( jar );
+
+        assertEquals( jar.getName(), expected.getNumEntries(), actual.getNumEntries() );
+        assertEquals( jar.getName(), expected.getNumClasses(), actual.getNumClasses() );
+        assertEquals( jar.getName(), expected.getNumPackages(), actual.getNumPackages() );
+        assertEquals( jar.getName(), expected.getJdkRevision(), actual.getJdkRevision() );
+        assertEquals( jar.getName(), expected.isDebugPresent(), actual.isDebugPresent() );
+        assertEquals( jar.getName(), expected.isSealed(), actual.isSealed() );
+    }
+
+    private static void addClass( JarOutputStream out, Class<?> c, int method )
+        throws IOException
+    {
+        String name = c.getName().replace( '.', '/' ) + ".class";
+        InputStream in = c.getClassLoader().getResourceAsStream( name );
+        byte[] bytes;
+        try
+        {
+            bytes = IOUtil.toByteArray( in );
+        }
+        finally
+        {
+            IOUtil.close( in );
+        }
+
+        JarEntry entry = new JarEntry( name );
+        entry.setMethod( method );
+        if ( method == ZipEntry.STORED )
+        {
+            CRC32 crc = new CRC32();
+            crc.update( bytes );
+            entry.setSize( bytes.length );
+            entry.setCompressedSize( bytes.length );
+            entry.setCrc( crc.getValue() );
+        }
+        out.putNextEntry( entry );
+        out.write( bytes );
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,111 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.File;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.codehaus.plexus.util.FileUtils;
+
+/**
+ * @version $Id$
+ */
+public class JarDetailsCacheTest
+    extends TestCase
+{
+    private File baseDir;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        baseDir = new File( System.getProperty( "basedir", "." ), "target/unit/jar-details-cache" );
+        FileUtils.deleteDirectory( baseDir );
+        baseDir.mkdirs();
+    }
+
+    public void testPersistence()
+        throws Exception
+    {
+        File jar = new File( baseDir, "test.jar" );
+        FileUtils.fileWrite( jar.getPath(), "content" );
+        File cacheFile = new File( baseDir, "cache/jar-details.properties" );
+
+        JarDetailsCache cache = new JarDetailsCache( cacheFile, true );
+        cache.load( new SystemStreamLog() );
+        assertNull( cache.get( jar, false ) );
+        cache.put( jar, false, new JarDetails( 10, 8, 2, "1.5", true, false ) );
+        cache.save( new SystemStreamLog() );
+        assertTrue( cacheFile.isFile() );
+        // no temporary file is left next to the cache file
+        assertEquals( 1, cacheFile.getParentFile().list().length );
+
+        cache = new JarDetailsCache( cacheFile, true );
+        cache.load( new SystemStreamLog() );
+        JarDetails details = cache.get( jar, false );
+        assertNotNull( details );
+        assertEquals( 10, details.getNumEntries() );
+        assertEquals( 8, details.getNumClasses() );
+        assertEquals( 2, details.getNumPackages() );
+        assertEquals( "1.5", details.getJdkRevision() );
+        assertTrue( details.isDebugPresent() );
+        assertFalse( details.isSealed() );
+        assertEquals( 1, cache.getHits() );
+        assertEquals( 0, cache.getMisses() );
+    }
+
+    public void testChangedFileIsMiss()
+        throws Exception
+    {
+        File jar = new File( baseDir, "test.jar" );
+        FileUtils.fileWrite( jar.getPath(), "content" );
+
+        JarDetailsCache cache = new JarDetailsCache( new File( baseDir, "jar-details.properties" ), false );
+        cache.put( jar, false, new JarDetails( 1, 1, 1, null, false, false ) );
+        assertNotNull( cache.get( jar, false ) );
+        assertNull( cache.get( jar, false ).getJdkRevision() );
+
+        FileUtils.fileWrite( jar.getPath(), "changed content" );
+        assertNull( cache.get( jar, false ) );
+    }
+
+    public void testFastScanDetailsAreSeparate()
+        throws Exception
+    {
+        File jar = new File( baseDir, "test.jar" );
+        FileUtils.fileWrite( jar.getPath(), "content" );
+        File cacheFile = new File( baseDir, "jar-details.properties" );
+
+        JarDetailsCache cache = new JarDetailsCache( cacheFile, false );
+        cache.put( jar, false, new JarDetails( 10, 8, 2, "1.5", true, false ) );
+        assertNull( cache.get( jar, true ) );
+        cache.put( jar, true, new JarDetails( 10, 7, 2, "1.5", true, false ) );
+        cache.save( new SystemStreamLog() );
+
+        cache = new JarDetailsCache( cacheFile, false );
+        cache.load( new SystemStreamLog() );
+        assertEquals( 8, cache.get( jar, false ).getNumClasses() );
+        assertEquals( 7, cache.get( jar, true ).getNumClasses() );
+    }
+}
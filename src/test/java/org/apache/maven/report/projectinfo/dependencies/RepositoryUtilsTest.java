@@ -0,0 +1,134 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.factory.ArtifactFactory;
+import org.apache.maven.model.Model;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectBuilder;
+import org.apache.maven.report.projectinfo.MavenProjectCache;
+import org.apache.maven.report.projectinfo.ProjectInfoReportUtils;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+
+/**
+ * @version $Id$
+ */
+public class RepositoryUtilsTest
+    extends TestCase
+{
+    private static final int ARTIFACTS = 50;
+
+    private final List<String> builtProjects = Collections.synchronizedList( new ArrayList<String>() );
+
+    private MavenProjectBuilder mavenProjectBuilder;
+
+    private ArtifactFactory artifactFactory;
+
+    @Override
+    protected void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        mavenProjectBuilder =
+            (MavenProjectBuilder) Proxy.newProxyInstance( getClass().getClassLoader(),
+                                                          new Class[] { MavenProjectBuilder.class },
+                                                          new InvocationHandler()
+                                                          {
+                                                              public Object invoke( Object proxy, Method method,
+                                                                                    Object[] args )
+                                                              {
+                                                                  Artifact artifact = (Artifact) args[0];
+                                                                  builtProjects.add( artifact.getId() );
+
+                                                                  Model model = new Model();
+                                                                  model.setArtifactId( artifact.getArtifactId() );
+                                                                  model.setUrl( "http://maven.apache.org/" );
+                                                                  return new MavenProject( model );
+                                                              }
+                                                          } );
+
+        InvocationHandler artifactFactoryHandler = new InvocationHandler()
+        {
+            public Object invoke( Object proxy, Method method, Object[] args )
+            {
+                assertEquals( "createProjectArtifact", method.getName() );
+                return ArtifactStubs.createArtifact( (String) args[1], "1.0", Artifact.SCOPE_COMPILE, "pom" );
+            }
+        };
+        artifactFactory = (ArtifactFactory) Proxy.newProxyInstance( getClass().getClassLoader(),
+                                                                    new Class[] { ArtifactFactory.class },
+                                                                    artifactFactoryHandler );
+    }
+
+    /**
+     * The models built ahead of rendering must still be cached when the renderer requests them, even when there
+     * are more artifacts than the default size of the cache.
+     */
+    public void testRenderingAfterPrefetchBuildsNothing()
+    {
+        MavenProjectCache cache = new MavenProjectCache( ARTIFACTS / 10 );
+        RepositoryUtils repoUtils =
+            new RepositoryUtils( new SystemStreamLog(), mavenProjectBuilder, artifactFactory, null, null, null, null,
+                                 null, cache );
+
+        List<Artifact> artifacts = new ArrayList<Artifact>();
+        for ( int i = 0; i < ARTIFACTS; i++ )
+        {
+            artifacts.add( ArtifactStubs.createArtifact( "lib-" + i, "1.0" ) );
+        }
+
+        repoUtils.prefetchMavenProjects( artifacts, 4 );
+
+        assertEquals( ARTIFACTS, builtProjects.size() );
+        assertTrue( cache.getMaxSize() >= ARTIFACTS );
+
+        for ( Artifact artifact : artifacts )
+        {
+            assertNotNull( ProjectInfoReportUtils.getArtifactUrl( artifactFactory, artifact, mavenProjectBuilder,
+                                                                  null, null, cache ) );
+        }
+        for ( Artifact artifact : artifacts )
+        {
+            try
+            {
+                assertEquals( artifact.getArtifactId(),
+                              repoUtils.getMavenProjectFromRepository( artifact ).getArtifactId() );
+            }
+            catch ( Exception e )
+            {
+                fail( e.getMessage() );
+            }
+        }
+
+        assertEquals( ARTIFACTS, builtProjects.size() );
+    }
+}
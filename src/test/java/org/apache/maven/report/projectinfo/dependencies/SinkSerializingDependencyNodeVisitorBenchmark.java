@@ -0,0 +1,111 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import junit.framework.TestCase;
+
+import org.apache.maven.report.projectinfo.dependencies.SinkSerializingDependencyNodeVisitorTest.ParentWalkingVisitor;
+import org.apache.maven.report.projectinfo.dependencies.SinkSerializingDependencyNodeVisitorTest.RecordingSink;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+
+/**
+ * Micro benchmark of the serialization of a wide and a deep synthetic dependency tree against the previous algorithm
+ * which walked up the parents of each node. Only run with the <code>benchmark</code> profile, the timings are printed.
+ *
+ * @version $Id$
+ * @see SinkSerializingDependencyNodeVisitorTest
+ */
+public class SinkSerializingDependencyNodeVisitorBenchmark
+    extends TestCase
+{
+    private static final int WIDTH = 1000;
+
+    private static final int DEPTH = 200;
+
+    private static final int WARMUPS = 3;
+
+    private static final int ITERATIONS = 5;
+
+    public void testWideTree()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        for ( int i = 0; i < WIDTH; i++ )
+        {
+            DependencyNode child = ArtifactStubs.createNode( "child-" + i, "1.0" );
+            child.addChild( ArtifactStubs.createNode( "grandchild-" + i, "1.0" ) );
+            root.addChild( child );
+        }
+
+        benchmark( "wide", root );
+    }
+
+    public void testDeepTree()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        DependencyNode parent = root;
+        for ( int i = 0; i < DEPTH; i++ )
+        {
+            DependencyNode node = ArtifactStubs.createNode( "level-" + i, "1.0" );
+            DependencyNode sibling = ArtifactStubs.createNode( "sibling-" + i, "1.0" );
+            if ( i % 2 == 0 )
+            {
+                parent.addChild( node );
+                parent.addChild( sibling );
+            }
+            else
+            {
+                parent.addChild( sibling );
+                parent.addChild( node );
+            }
+            parent = node;
+        }
+
+        benchmark( "deep", root );
+    }
+
+    private static void benchmark( String shape, DependencyNode root )
+    {
+        long stacked = 0;
+        long parentWalking = 0;
+        for ( int iteration = 0; iteration < WARMUPS + ITERATIONS; iteration++ )
+        {
+            long start = System.nanoTime();
+            RecordingSink expected = new RecordingSink();
+            root.accept( new ParentWalkingVisitor( expected ) );
+            long parentWalkingTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            RecordingSink actual = new RecordingSink();
+            root.accept( new SinkSerializingDependencyNodeVisitor( actual ) );
+            long stackedTime = System.nanoTime() - start;
+
+            assertEquals( expected.toString(), actual.toString() );
+            if ( iteration >= WARMUPS )
+            {
+                stacked += stackedTime;
+                parentWalking += parentWalkingTime;
+            }
+        }
+
+        System.out.println( "Serialization of the " + shape + " tree: stacked flags " + stacked / ITERATIONS / 1000000
+            + " ms, parent walking " + parentWalking / ITERATIONS / 1000000 + " ms" );
+    }
+}
@@ -0,0 +1,225 @@
+package org.apache.maven.report.projectinfo.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.doxia.sink.SinkAdapter;
+import org.apache.maven.report.projectinfo.stubs.ArtifactStubs;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+import org.apache.maven.shared.dependency.tree.traversal.DependencyNodeVisitor;
+
+/**
+ * Checks the serialization of the dependency tree, and compares it on a wide and a deep synthetic tree with the
+ * previous algorithm which walked up the parents of each node.
+ *
+ * @version $Id$
+ */
+public class SinkSerializingDependencyNodeVisitorTest
+    extends TestCase
+{
+    private static final int WIDTH = 1000;
+
+    private static final int DEPTH = 200;
+
+    public void testSerialize()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        DependencyNode a = ArtifactStubs.createNode( "a", "1.0" );
+        DependencyNode b = ArtifactStubs.createNode( "b", "1.0" );
+        root.addChild( a );
+        root.addChild( b );
+        a.addChild( ArtifactStubs.createNode( "a1", "1.0" ) );
+        a.addChild( ArtifactStubs.createNode( "a2", "1.0" ) );
+        b.addChild( ArtifactStubs.createNode( "b1", "1.0" ) );
+
+        assertEquals( "org.apache.maven.test:root:jar:1.0:compile\n"
+            + "+- org.apache.maven.test:a:jar:1.0:compile\n"
+            + "|  +- org.apache.maven.test:a1:jar:1.0:compile\n"
+            + "|  \\- org.apache.maven.test:a2:jar:1.0:compile\n"
+            + "\\- org.apache.maven.test:b:jar:1.0:compile\n"
+            + "   \\- org.apache.maven.test:b1:jar:1.0:compile\n", serialize( root ) );
+    }
+
+    public void testWideTree()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        for ( int i = 0; i < WIDTH; i++ )
+        {
+            DependencyNode child = ArtifactStubs.createNode( "child-" + i, "1.0" );
+            child.addChild( ArtifactStubs.createNode( "grandchild-" + i, "1.0" ) );
+            root.addChild( child );
+        }
+
+        assertSameAsParentWalking( root );
+    }
+
+    public void testDeepTree()
+    {
+        DependencyNode root = ArtifactStubs.createNode( "root", "1.0" );
+        DependencyNode parent = root;
+        for ( int i = 0; i < DEPTH; i++ )
+        {
+            DependencyNode node = ArtifactStubs.createNode( "level-" + i, "1.0" );
+            DependencyNode sibling = ArtifactStubs.createNode( "sibling-" + i, "1.0" );
+            // alternate the position of the chain among its siblings, so that both indents are used
+            if ( i % 2 == 0 )
+            {
+                parent.addChild( node );
+                parent.addChild( sibling );
+            }
+            else
+            {
+                parent.addChild( sibling );
+                parent.addChild( node );
+            }
+            parent = node;
+        }
+
+        assertSameAsParentWalking( root );
+    }
+
+    private static void assertSameAsParentWalking( DependencyNode root )
+    {
+        RecordingSink sink = new RecordingSink();
+        root.accept( new ParentWalkingVisitor( sink ) );
+
+        assertEquals( sink.toString(), serialize( root ) );
+    }
+
+    private static String serialize( DependencyNode root )
+    {
+        RecordingSink sink = new RecordingSink();
+        root.accept( new SinkSerializingDependencyNodeVisitor( sink ) );
+        return sink.toString();
+    }
+
+    /**
+     * Records the text of the tree, with a space for a non breaking space and a new line for a line break.
+     */
+    static class RecordingSink
+        extends SinkAdapter
+    {
+        private final StringBuilder sb = new StringBuilder();
+
+        @Override
+        public void text( String text )
+        {
+            sb.append( text );
+        }
+
+        @Override
+        public void nonBreakingSpace()
+        {
+            sb.append( ' ' );
+        }
+
+        @Override
+        public void lineBreak()
+        {
+            sb.append( '\n' );
+        }
+
+        @Override
+        public String toString()
+        {
+            return sb.toString();
+        }
+    }
+
+    /**
+     * The algorithm used before the flags were stacked: the position of each ancestor is looked up again for every
+     * node, by walking up the parents and searching the lists of children.
+     */
+    static class ParentWalkingVisitor
+        implements DependencyNodeVisitor
+    {
+        private final RecordingSink sink;
+
+        private int depth;
+
+        ParentWalkingVisitor( RecordingSink sink )
+        {
+            this.sink = sink;
+        }
+
+        public boolean visit( DependencyNode node )
+        {
+            for ( int i = 1; i < depth; i++ )
+            {
+                if ( isLast( node, i ) )
+                {
+                    sink.text( "   " );
+                }
+                else
+                {
+                    sink.text( "|  " );
+                }
+            }
+
+            if ( depth > 0 )
+            {
+                sink.text( isLast( node ) ? "\\- " : "+- " );
+            }
+
+            sink.text( node.toNodeString() );
+            sink.lineBreak();
+
+            depth++;
+
+            return true;
+        }
+
+        public boolean endVisit( DependencyNode node )
+        {
+            depth--;
+
+            return true;
+        }
+
+        private boolean isLast( DependencyNode node )
+        {
+            DependencyNode parent = node.getParent();
+
+            if ( parent == null )
+            {
+                return true;
+            }
+
+            List<?> siblings = parent.getChildren();
+
+            return siblings.indexOf( node ) == siblings.size() - 1;
+        }
+
+        private boolean isLast( DependencyNode node, int ancestorDepth )
+        {
+            int distance = depth - ancestorDepth;
+
+            while ( distance-- > 0 )
+            {
+                node = node.getParent();
+            }
+
+            return isLast( node );
+        }
+    }
+}
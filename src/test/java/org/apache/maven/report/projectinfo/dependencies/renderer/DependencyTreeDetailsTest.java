@@ -0,0 +1,69 @@
+package org.apache.maven.report.projectinfo.dependencies.renderer;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.model.License;
+
+/**
+ * @version $Id$
+ */
+public class DependencyTreeDetailsTest
+    extends TestCase
+{
+    public void testWrite()
+        throws Exception
+    {
+        License apache = new License();
+        apache.setName( "Apache License, Version 2.0" );
+        apache.setUrl( "http://www.apache.org/licenses/LICENSE-2.0.txt" );
+        License unnamed = new License();
+
+        DependencyTreeDetails details = new DependencyTreeDetails();
+        details.add( "junit:junit:3.8.1", "JUnit", "Unit testing", "http://junit.org", true,
+                     Arrays.asList( apache, unnamed ) );
+        details.add( "com.sun:tools:1.6", "com.sun:tools:jar:1.6", null, "/jdk/lib/tools.jar", false, null );
+
+        assertTrue( details.contains( "junit:junit:3.8.1" ) );
+        assertFalse( details.contains( "junit:junit:4.12" ) );
+        assertEquals( 2, details.size() );
+
+        StringWriter writer = new StringWriter();
+        details.write( writer );
+        assertEquals( "{\n"
+            + "\"junit:junit:3.8.1\":{\"name\":\"JUnit\",\"description\":\"Unit testing\",\"url\":\"http://junit.org\","
+            + "\"link\":true,\"licenses\":[{\"name\":\"Apache License, Version 2.0\","
+            + "\"url\":\"http://www.apache.org/licenses/LICENSE-2.0.txt\"},{\"name\":null}]},\n"
+            + "\"com.sun:tools:1.6\":{\"name\":\"com.sun:tools:jar:1.6\",\"url\":\"/jdk/lib/tools.jar\",\"link\":false}\n"
+            + "}\n", writer.toString() );
+    }
+
+    public void testQuote()
+    {
+        assertEquals( "null", DependencyTreeDetails.quote( null ) );
+        assertEquals( "\"a \\\"b\\\" \\\\ c\\n\\t\"", DependencyTreeDetails.quote( "a \"b\" \\ c\n\t" ) );
+        assertEquals( "\"\\u003c/script\\u003e \\u0026 \\u0001\"", DependencyTreeDetails.quote( "</script> & \u0001" ) );
+        assertEquals( "\"\\u2028\"", DependencyTreeDetails.quote( "\u2028" ) );
+    }
+}
@@ -0,0 +1,90 @@
+package org.apache.maven.report.projectinfo.stubs;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.shared.dependency.tree.DependencyNode;
+
+/**
+ * Creates the artifacts and dependency tree nodes of the tests, in the <code>org.apache.maven.test</code> group by
+ * default.
+ *
+ * @version $Id$
+ */
+public final class ArtifactStubs
+{
+    /** The group id of the artifacts created without one */
+    public static final String GROUP_ID = "org.apache.maven.test";
+
+    private ArtifactStubs()
+    {
+        // no op
+    }
+
+    /**
+     * @param groupId the group id
+     * @param artifactId the artifact id
+     * @param version the version
+     * @param scope the scope, could be null
+     * @param type the type, also used for the artifact handler
+     * @return a new artifact, without classifier
+     */
+    public static Artifact createArtifact( String groupId, String artifactId, String version, String scope,
+                                           String type )
+    {
+        return new DefaultArtifact( groupId, artifactId, VersionRange.createFromVersion( version ), scope, type, null,
+                                    new DefaultArtifactHandler( type ), false );
+    }
+
+    /**
+     * @param artifactId the artifact id
+     * @param version the version
+     * @param scope the scope, could be null
+     * @param type the type, also used for the artifact handler
+     * @return a new artifact of the {@link #GROUP_ID} group
+     */
+    public static Artifact createArtifact( String artifactId, String version, String scope, String type )
+    {
+        return createArtifact( GROUP_ID, artifactId, version, scope, type );
+    }
+
+    /**
+     * @param artifactId the artifact id
+     * @param version the version
+     * @return a new compile scope jar of the {@link #GROUP_ID} group
+     */
+    public static Artifact createArtifact( String artifactId, String version )
+    {
+        return createArtifact( artifactId, version, Artifact.SCOPE_COMPILE, "jar" );
+    }
+
+    /**
+     * @param artifactId the artifact id
+     * @param version the version
+     * @return a new dependency tree node of a compile scope jar of the {@link #GROUP_ID} group, without children
+     */
+    public static DependencyNode createNode( String artifactId, String version )
+    {
+        return new DependencyNode( createArtifact( artifactId, version ) );
+    }
+}
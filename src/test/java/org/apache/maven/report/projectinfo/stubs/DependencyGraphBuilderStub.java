@@ -0,0 +1,91 @@
+package org.apache.maven.report.projectinfo.stubs;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+
+/**
+ * A dependency graph builder returning the dependencies given by the subclass under a node of the project, since the
+ * default builder does not work in the test harness. It counts the graphs built.
+ *
+ * @version $Id$
+ */
+public abstract class DependencyGraphBuilderStub
+    implements DependencyGraphBuilder
+{
+    private int buildCount;
+
+    /** {@inheritDoc} */
+    public DependencyNode buildDependencyGraph( MavenProject project, ArtifactFilter filter )
+    {
+        buildCount++;
+
+        DefaultDependencyNode root = new DefaultDependencyNode( null, project.getArtifact(), null, null, null );
+        root.setChildren( createChildren( root ) );
+        return root;
+    }
+
+    /** {@inheritDoc} */
+    public DependencyNode buildDependencyGraph( MavenProject project, ArtifactFilter filter,
+                                                Collection<MavenProject> reactorProjects )
+    {
+        return buildDependencyGraph( project, filter );
+    }
+
+    /**
+     * @return the number of graphs built so far
+     */
+    public int getBuildCount()
+    {
+        return buildCount;
+    }
+
+    /**
+     * @param root the node of the project, not null
+     * @return the nodes of the direct dependencies of the project, with their own children set
+     */
+    protected abstract List<DependencyNode> createChildren( DependencyNode root );
+
+    /**
+     * @param parent the parent node, not null
+     * @param groupId the group id of the dependency
+     * @param artifactId the artifact id of the dependency
+     * @param version the version of the dependency
+     * @param scope the scope of the dependency
+     * @return a node of a jar dependency, without children
+     */
+    public static DefaultDependencyNode createNode( DependencyNode parent, String groupId, String artifactId,
+                                                    String version, String scope )
+    {
+        Artifact artifact = ArtifactStubs.createArtifact( groupId, artifactId, version, scope, "jar" );
+        DefaultDependencyNode node = new DefaultDependencyNode( parent, artifact, null, null, null );
+        node.setChildren( Collections.<DependencyNode>emptyList() );
+        return node;
+    }
+}